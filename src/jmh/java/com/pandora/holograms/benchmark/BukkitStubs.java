@@ -0,0 +1,128 @@
+package com.pandora.holograms.benchmark;
+
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Minimal in-process Bukkit objects for benchmarks.
+ * Only the methods the benchmarked code calls return real values, everything else returns a default.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public final class BukkitStubs {
+    
+    private BukkitStubs() {
+    }
+    
+    /**
+     * Create a player that only knows its name and UUID
+     */
+    public static Player player(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return (Player) Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return name;
+                        case "getUniqueId":
+                            return uuid;
+                        case "isOnline":
+                            return true;
+                        case "hashCode":
+                            return uuid.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "Player{" + name + "}";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+    
+    /**
+     * Create a world in which every chunk is loaded
+     */
+    public static World world(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return (World) Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[]{World.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return name;
+                        case "getUID":
+                            return uuid;
+                        case "isChunkLoaded":
+                            return true;
+                        case "hashCode":
+                            return uuid.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "World{" + name + "}";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+    
+    /**
+     * Create a server that only provides a logger, enough to construct the plugin outside a server
+     */
+    public static Server server() {
+        Logger logger = Logger.getLogger("Server");
+        return (Server) Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[]{Server.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getLogger":
+                            return logger;
+                        case "getName":
+                            return "BenchmarkServer";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "Server{benchmark}";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+    
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return (byte) 0;
+    }
+
+}
+
@@ -0,0 +1,93 @@
+package com.pandora.holograms.benchmark;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hologram.respawn and updateLines over 100, 1k and 10k spawned holograms.
+ * The plugin runs standalone and holograms render through a recording renderer.
+ * Spawning from scratch is measured by {@link HologramSpawnBenchmark}.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HologramBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int holograms;
+    
+    private RecordingRenderer renderer;
+    private List<Hologram> spawned;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        renderer = new RecordingRenderer();
+        spawned = create(renderer, holograms);
+        for (Hologram hologram : spawned) {
+            hologram.spawn();
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Hologram hologram : spawned) {
+            hologram.despawn();
+        }
+    }
+    
+    /**
+     * Start the plugin standalone with the given renderer and create holograms in a world where every chunk is loaded
+     */
+    static List<Hologram> create(RecordingRenderer renderer, int count) {
+        PandoraHologramsPlugin.createStandalone(BukkitStubs.server(), new File("build/tmp/jmh"), renderer);
+        World world = BukkitStubs.world("world");
+        List<Hologram> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> lines = Arrays.asList(
+                    "&e&lHologram #" + i,
+                    "&7Welcome to the server!",
+                    i % 10 == 0 ? "&aFeatured" : "&7Have fun");
+            created.add(new Hologram("holo" + i, new Location(world, i * 1.5, 64.0, -i * 1.5), lines));
+        }
+        return created;
+    }
+    
+    @Benchmark
+    public long respawn() {
+        for (Hologram hologram : spawned) {
+            hologram.respawn();
+        }
+        return renderer.getRendered();
+    }
+    
+    @Benchmark
+    public long updateLines() {
+        for (Hologram hologram : spawned) {
+            hologram.updateLines();
+        }
+        return renderer.getRendered();
+    }
+
+}
+
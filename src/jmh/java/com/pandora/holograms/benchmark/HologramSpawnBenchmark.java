@@ -0,0 +1,60 @@
+package com.pandora.holograms.benchmark;
+
+import com.pandora.holograms.hologram.Hologram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hologram.spawn over 100, 1k and 10k despawned holograms.
+ * Kept apart from {@link HologramBenchmark} because every invocation needs freshly despawned holograms.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HologramSpawnBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int holograms;
+    
+    private RecordingRenderer renderer;
+    private List<Hologram> despawned;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        renderer = new RecordingRenderer();
+        despawned = HologramBenchmark.create(renderer, holograms);
+    }
+    
+    /**
+     * Despawning is not timed
+     */
+    @Setup(Level.Invocation)
+    public void despawnAll() {
+        for (Hologram hologram : despawned) {
+            hologram.despawn();
+        }
+    }
+    
+    @Benchmark
+    public long spawn() {
+        for (Hologram hologram : despawned) {
+            hologram.spawn();
+        }
+        return renderer.getRendered();
+    }
+
+}
+
@@ -0,0 +1,67 @@
+package com.pandora.holograms.benchmark;
+
+import com.pandora.holograms.hologram.LineTemplate;
+import com.pandora.holograms.util.PlaceholderUtil;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-line text work done on every refresh: raw placeholder parsing versus the precompiled template.
+ * PlaceholderAPI is replaced by the in-process stub in me.clip.placeholderapi.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceholderBenchmark {
+    
+    private static final String DYNAMIC_LINE = "&e&lWelcome &6%player_name%&e! &7Online: &a%server_online% &7/ &a%server_max_players%";
+    private static final String STATIC_LINE = "&e&lWelcome to the server! &7Have fun";
+    
+    private Player player;
+    private LineTemplate dynamicTemplate;
+    private LineTemplate staticTemplate;
+    
+    @Setup
+    public void setup() {
+        PlaceholderUtil.checkPlaceholderAPI();
+        if (!PlaceholderUtil.isPlaceholderApiEnabled()) {
+            throw new IllegalStateException("PlaceholderAPI stub not found on the benchmark classpath");
+        }
+        player = BukkitStubs.player("Benchmark");
+        dynamicTemplate = LineTemplate.compile(DYNAMIC_LINE);
+        staticTemplate = LineTemplate.compile(STATIC_LINE);
+    }
+    
+    @Benchmark
+    public String parsePlaceholders() {
+        return PlaceholderUtil.parsePlaceholders(DYNAMIC_LINE, player);
+    }
+    
+    @Benchmark
+    public String renderDynamicTemplate() {
+        return dynamicTemplate.render(player);
+    }
+    
+    @Benchmark
+    public String renderStaticTemplate() {
+        return staticTemplate.render(player);
+    }
+    
+    @Benchmark
+    public LineTemplate compileTemplate() {
+        return LineTemplate.compile(DYNAMIC_LINE);
+    }
+
+}
+
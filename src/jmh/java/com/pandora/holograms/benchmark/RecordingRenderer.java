@@ -0,0 +1,107 @@
+package com.pandora.holograms.benchmark;
+
+import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.render.HologramDisplay;
+import com.pandora.holograms.render.HologramRenderer;
+import org.bukkit.entity.Player;
+
+import java.util.BitSet;
+
+/**
+ * A shared renderer that renders the text of every line like a real display would, but sends nothing.
+ * The rendered characters are counted so the work is not optimized away.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+class RecordingRenderer implements HologramRenderer {
+    
+    private long rendered;
+    
+    long getRendered() {
+        return rendered;
+    }
+    
+    @Override
+    public String getName() {
+        return "recording";
+    }
+    
+    @Override
+    public boolean isPerPlayer() {
+        return false;
+    }
+    
+    @Override
+    public HologramDisplay createDisplay(Hologram hologram) {
+        return new RecordingDisplay(hologram);
+    }
+    
+    private class RecordingDisplay implements HologramDisplay {
+        
+        private final Hologram hologram;
+        
+        private RecordingDisplay(Hologram hologram) {
+            this.hologram = hologram;
+        }
+        
+        private void render(int index) {
+            rendered += hologram.renderLine(index, null).length();
+        }
+        
+        private void renderAll() {
+            for (int i = 0; i < hologram.getLineCount(); i++) {
+                render(i);
+            }
+        }
+        
+        @Override
+        public void spawn() {
+            renderAll();
+        }
+        
+        @Override
+        public void despawn() {
+        }
+        
+        @Override
+        public void show(Player player) {
+        }
+        
+        @Override
+        public void hide(Player player) {
+        }
+        
+        @Override
+        public void updateLine(int index) {
+            render(index);
+        }
+        
+        @Override
+        public void insertLine(int index) {
+            render(index);
+        }
+        
+        @Override
+        public void removeLine(int index) {
+        }
+        
+        @Override
+        public void sync(BitSet changed) {
+            for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                render(i);
+            }
+        }
+        
+        @Override
+        public void relayout() {
+        }
+        
+        @Override
+        public void update(Player player) {
+            renderAll();
+        }
+    }
+
+}
+
@@ -0,0 +1,132 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.benchmark.BukkitStubs;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Encoding and decoding of the YAML and binary storage formats, in memory and through
+ * the real loadAll and write of each backend against a temporary data folder.
+ * Lives in the storage package to reach the package-private codecs.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int holograms;
+    
+    private List<HologramData> data;
+    private String yaml;
+    private byte[] binary;
+    private Path dataFolder;
+    private YamlHologramStorage yamlStorage;
+    private BinaryHologramStorage binaryStorage;
+    
+    @Setup
+    public void setup() throws IOException {
+        data = new ArrayList<>(holograms);
+        for (int i = 0; i < holograms; i++) {
+            List<String> lines = Arrays.asList(
+                    "&e&lHologram #" + i,
+                    "&7Welcome, &6%player_name%&7!",
+                    i % 10 == 0 ? "&aFeatured" : "&7Online: &a%server_online%");
+            data.add(new HologramData("holo" + i, i % 3 == 0 ? "world_nether" : "world",
+                    i * 1.5, 64.0, -i * 1.5, lines,
+                    i % 5 == 0 ? "holograms.view.vip" : null,
+                    Double.NaN, i % 4 == 0 ? 32.0 : Double.NaN));
+        }
+        yaml = encodeYaml();
+        binary = BinaryHologramStorage.encode(data);
+        
+        // Both files hold every hologram before the first load
+        dataFolder = Files.createTempDirectory("pandora-holograms-bench");
+        PandoraHologramsPlugin plugin = PandoraHologramsPlugin.createStandalone(BukkitStubs.server(), dataFolder.toFile(), null);
+        yamlStorage = new YamlHologramStorage(plugin);
+        binaryStorage = new BinaryHologramStorage(plugin);
+        yamlStorage.write(data, Collections.emptyList());
+        binaryStorage.write(data, Collections.emptyList());
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        yamlStorage.close();
+        binaryStorage.close();
+        try (Stream<Path> files = Files.walk(dataFolder)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+    
+    @Benchmark
+    public String encodeYaml() {
+        YamlConfiguration config = new YamlConfiguration();
+        YamlHologramStorage.apply(config, data, Collections.emptyList());
+        return config.saveToString();
+    }
+    
+    @Benchmark
+    public List<HologramData> decodeYaml() throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+        return YamlHologramStorage.read(config);
+    }
+    
+    @Benchmark
+    public byte[] encodeBinary() throws IOException {
+        return BinaryHologramStorage.encode(data);
+    }
+    
+    @Benchmark
+    public List<HologramData> decodeBinary() throws IOException {
+        return BinaryHologramStorage.read(ByteBuffer.wrap(binary));
+    }
+    
+    @Benchmark
+    public List<HologramData> loadAllYaml() {
+        return yamlStorage.loadAll();
+    }
+    
+    @Benchmark
+    public void saveAllYaml() throws IOException {
+        yamlStorage.write(data, Collections.emptyList());
+    }
+    
+    @Benchmark
+    public List<HologramData> loadAllBinary() {
+        return binaryStorage.loadAll();
+    }
+    
+    @Benchmark
+    public void saveAllBinary() throws IOException {
+        binaryStorage.write(data, Collections.emptyList());
+    }
+
+}
+
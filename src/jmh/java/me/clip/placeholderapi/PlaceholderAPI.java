@@ -0,0 +1,38 @@
+package me.clip.placeholderapi;
+
+import org.bukkit.OfflinePlayer;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for PlaceholderAPI so placeholder benchmarks run without a server.
+ * Resolves every placeholder by scanning the text, roughly like the real expansion lookup.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public final class PlaceholderAPI {
+    
+    private static final Pattern PLACEHOLDER = Pattern.compile("%([a-zA-Z0-9]+)_([^%]+)%");
+    
+    private PlaceholderAPI() {
+    }
+    
+    public static String setPlaceholders(OfflinePlayer player, String text) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+        
+        StringBuilder builder = new StringBuilder(text.length());
+        do {
+            String value = matcher.group(1).equals("player") ? player.getName() : String.valueOf(matcher.group(2).length());
+            matcher.appendReplacement(builder, Matcher.quoteReplacement(value));
+        } while (matcher.find());
+        matcher.appendTail(builder);
+        return builder.toString();
+    }
+
+}
+
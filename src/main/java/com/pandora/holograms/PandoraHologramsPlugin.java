@@ -1,14 +1,37 @@
 package com.pandora.holograms;
 
+import com.pandora.holograms.animation.AnimationClock;
 import com.pandora.holograms.commands.HologramCommand;
-import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.hologram.LineTemplate;
+import com.pandora.holograms.listener.ChunkListener;
+import com.pandora.holograms.listener.PlayerListener;
 import com.pandora.holograms.manager.HologramManager;
+import com.pandora.holograms.refresh.AsyncPlaceholderPool;
+import com.pandora.holograms.refresh.PageCycler;
+import com.pandora.holograms.refresh.RefreshScheduler;
+import com.pandora.holograms.render.EntityHologramRenderer;
+import com.pandora.holograms.render.HologramRenderer;
+import com.pandora.holograms.render.PacketHologramRenderer;
+import com.pandora.holograms.render.TextDisplayRenderer;
+import com.pandora.holograms.stats.HologramStats;
+import com.pandora.holograms.storage.BinaryHologramStorage;
 import com.pandora.holograms.storage.HologramStorage;
+import com.pandora.holograms.storage.MySqlHologramStorage;
+import com.pandora.holograms.storage.SQLiteHologramStorage;
+import com.pandora.holograms.storage.YamlHologramStorage;
+import com.pandora.holograms.util.GlobalPlaceholderCache;
 import com.pandora.holograms.util.PlaceholderUtil;
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
+import org.bstats.bukkit.Metrics;
+import org.bstats.charts.SimplePie;
+import org.bstats.charts.SingleLineChart;
+import org.bukkit.Server;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.util.List;
 
 /**
  * PandoraHolograms - A high-performance, user-friendly hologram plugin
@@ -21,7 +44,42 @@ public class PandoraHologramsPlugin extends JavaPlugin {
     private static PandoraHologramsPlugin instance;
     private HologramManager hologramManager;
     private HologramStorage storage;
-    private BukkitTask updateTask;
+    private HologramRenderer renderer;
+    private RefreshScheduler refreshScheduler;
+    private AnimationClock animationClock;
+    private PageCycler pageCycler;
+    private HologramStats stats;
+    
+    public PandoraHologramsPlugin() {
+    }
+    
+    /**
+     * Bukkit's initialization constructor, it refuses to run inside a server
+     */
+    private PandoraHologramsPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
+    
+    /**
+     * Create an instance outside a server, e.g. for benchmarks, and make it the current instance.
+     * Only the renderer and stats are set up. There is no hologram manager, refresh scheduler or
+     * animation clock, so holograms skip those steps. Config values come from the bundled config.yml.
+     * 
+     * @param server The server the plugin belongs to, only its logger is used
+     * @param dataFolder The folder storages read and write
+     * @param renderer The renderer holograms create their displays with, or null
+     * @return The new instance
+     */
+    @SuppressWarnings({"deprecation", "removal"})
+    public static PandoraHologramsPlugin createStandalone(Server server, File dataFolder, HologramRenderer renderer) {
+        PluginDescriptionFile description = new PluginDescriptionFile("PandoraHolograms", "standalone", PandoraHologramsPlugin.class.getName());
+        PandoraHologramsPlugin plugin = new PandoraHologramsPlugin(new JavaPluginLoader(server), description,
+                dataFolder, new File(dataFolder, "PandoraHolograms.jar"));
+        plugin.renderer = renderer;
+        plugin.stats = new HologramStats();
+        instance = plugin;
+        return plugin;
+    }
     
     @Override
     public void onLoad() {
@@ -38,21 +96,97 @@ public class PandoraHologramsPlugin extends JavaPlugin {
             getLogger().info("PlaceholderAPI found! Placeholder support enabled.");
         }
         
-        this.storage = new HologramStorage(this);
+        this.stats = new HologramStats();
+        LineTemplate.getCache().setMaxSize(getConfig().getInt("line-cache-size", 4096));
+        
+        this.renderer = createRenderer();
+        getLogger().info("Using the " + renderer.getName() + " hologram renderer.");
+        
+        this.storage = createStorage();
+        getLogger().info("Using " + storage.getName() + " hologram storage.");
         this.hologramManager = new HologramManager(this, storage);
         
         HologramCommand command = new HologramCommand(this, hologramManager);
         getCommand("holo").setExecutor(command);
         getCommand("holo").setTabCompleter(command);
         
+        getServer().getPluginManager().registerEvents(new PlayerListener(this, hologramManager), this);
+        getServer().getPluginManager().registerEvents(new ChunkListener(hologramManager), this);
+        
+        this.animationClock = new AnimationClock(this);
+        animationClock.start();
+        this.pageCycler = new PageCycler(this);
+        pageCycler.start();
+        
         // Load all holograms from storage
         hologramManager.loadAll();
         
         // Start update task for PlaceholderAPI support
         startUpdateTask();
         
+        startMetrics();
+        
         getLogger().info("PandoraHolograms has been enabled!");
-        getLogger().info("Loaded " + hologramManager.getAllHolograms().size() + " hologram(s)!");
+    }
+    
+    private HologramStorage createStorage() {
+        String type = getConfig().getString("storage-type", "yaml").toLowerCase();
+        HologramStorage created = createStorage(type);
+        if (created == null) {
+            getLogger().warning("Unknown or unconfigured storage-type '" + type + "', falling back to yaml storage.");
+            return new YamlHologramStorage(this);
+        }
+        return created;
+    }
+    
+    /**
+     * Create a storage backend by its storage-type name
+     * 
+     * @param type yaml, binary, sqlite or mysql
+     * @return The backend, or null if the type is unknown or mysql is not configured
+     */
+    public HologramStorage createStorage(String type) {
+        switch (type.toLowerCase()) {
+            case "yaml":
+                return new YamlHologramStorage(this);
+            case "binary":
+                return new BinaryHologramStorage(this);
+            case "sqlite":
+                return new SQLiteHologramStorage(this);
+            case "mysql":
+                ConfigurationSection mysql = getConfig().getConfigurationSection("mysql");
+                return mysql != null ? new MySqlHologramStorage(this, mysql) : null;
+            default:
+                return null;
+        }
+    }
+    
+    private HologramRenderer createRenderer() {
+        String type = getConfig().getString("renderer", "auto").toLowerCase();
+        boolean protocolLib = getServer().getPluginManager().getPlugin("ProtocolLib") != null;
+        boolean displays = TextDisplayRenderer.isSupported();
+        
+        switch (type) {
+            case "entity":
+                return new EntityHologramRenderer();
+            case "packet":
+                if (protocolLib) {
+                    return new PacketHologramRenderer();
+                }
+                getLogger().warning("Renderer 'packet' requires ProtocolLib! Falling back to 'entity'.");
+                return new EntityHologramRenderer();
+            case "display":
+                if (displays) {
+                    return new TextDisplayRenderer(getConfig().getConfigurationSection("text-display"));
+                }
+                getLogger().warning("Renderer 'display' requires Minecraft 1.19.4 or newer! Falling back to 'entity'.");
+                return new EntityHologramRenderer();
+            default:
+                if (protocolLib) {
+                    return new PacketHologramRenderer();
+                }
+                return displays ? new TextDisplayRenderer(getConfig().getConfigurationSection("text-display")) : new EntityHologramRenderer();
+        }
     }
     
     private void startUpdateTask() {
@@ -63,34 +197,76 @@ public class PandoraHologramsPlugin extends JavaPlugin {
         
         // Only start update task if PlaceholderAPI is enabled
         if (PlaceholderUtil.isPlaceholderApiEnabled()) {
-            updateTask = Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
-                // Update holograms for all online players
-                Bukkit.getScheduler().runTask(this, () -> {
-                    for (Player player : Bukkit.getOnlinePlayers()) {
-                        for (Hologram hologram : hologramManager.getAllHolograms()) {
-                            if (hologram.isSpawned() && hologram.hasPermission(player)) {
-                                hologram.updateLines(player);
-                            }
-                        }
-                    }
-                });
-            }, interval, interval);
+            PlaceholderUtil.setGlobalCache(createGlobalCache(interval));
+            double budget = getConfig().getDouble("refresh-budget-ms", 2.0);
+            refreshScheduler = new RefreshScheduler(this, interval, budget, createPlaceholderPool());
+            refreshScheduler.start();
             
-            getLogger().info("PlaceholderAPI update task started (interval: " + interval + " ticks)");
+            getLogger().info("PlaceholderAPI refresh scheduler started (interval: " + interval + " ticks, budget: " + budget + "ms/tick)");
         }
     }
     
+    private GlobalPlaceholderCache createGlobalCache(long interval) {
+        ConfigurationSection section = getConfig().getConfigurationSection("global-placeholders");
+        if (section == null || !section.getBoolean("enabled", true)) {
+            return null;
+        }
+        // A value lives for one refresh cycle unless configured otherwise
+        long ttlTicks = section.getLong("ttl-ticks", interval);
+        return new GlobalPlaceholderCache(section.getStringList("expansions"), section.getStringList("placeholders"),
+                section.getBoolean("auto-detect", false), section.getInt("auto-detect-samples", 5), ttlTicks * 50L,
+                section.getLong("auto-detect-expiry-seconds", 300L) * 1000L);
+    }
+    
+    private AsyncPlaceholderPool createPlaceholderPool() {
+        List<String> expansions = getConfig().getStringList("async-placeholders.expansions");
+        if (expansions.isEmpty()) {
+            return null;
+        }
+        int threads = getConfig().getInt("async-placeholders.threads", 2);
+        getLogger().info("Resolving placeholders of " + String.join(", ", expansions) + " on " + threads + " worker thread(s).");
+        return new AsyncPlaceholderPool(expansions, threads);
+    }
+    
+    private void startMetrics() {
+        int pluginId = getConfig().getInt("metrics-plugin-id", 0);
+        if (!getConfig().getBoolean("metrics", true) || pluginId <= 0) {
+            return;
+        }
+        
+        // bStats collects chart data on the main thread
+        Metrics metrics = new Metrics(this, pluginId);
+        metrics.addCustomChart(new SimplePie("renderer", () -> renderer.getName()));
+        metrics.addCustomChart(new SimplePie("storage_type", () -> storage.getName()));
+        metrics.addCustomChart(new SimplePie("placeholderapi", () -> PlaceholderUtil.isPlaceholderApiEnabled() ? "Yes" : "No"));
+        metrics.addCustomChart(new SingleLineChart("holograms", () -> hologramManager.getAllHolograms().size()));
+        metrics.addCustomChart(new SingleLineChart("hologram_viewers", () -> hologramManager.getViewerCount()));
+        metrics.addCustomChart(new SimplePie("refresh_cycle_ms", () -> {
+            double mean = stats.getRefreshCycles().getMeanMillis();
+            return mean < 0.5 ? "< 0.5" : mean < 1.0 ? "0.5 - 1" : mean < 2.0 ? "1 - 2" : "2+";
+        }));
+    }
+    
     @Override
     public void onDisable() {
         // Cancel update task
-        if (updateTask != null) {
-            updateTask.cancel();
-            updateTask = null;
+        if (refreshScheduler != null) {
+            refreshScheduler.stop();
+            refreshScheduler = null;
+        }
+        if (animationClock != null) {
+            animationClock.stop();
+            animationClock = null;
+        }
+        if (pageCycler != null) {
+            pageCycler.stop();
+            pageCycler = null;
         }
         
         if (hologramManager != null) {
             hologramManager.saveAll();
             hologramManager.removeAll();
+            hologramManager.shutdown();
         }
         
         getLogger().info("PandoraHolograms has been disabled!");
@@ -107,6 +283,26 @@ public class PandoraHologramsPlugin extends JavaPlugin {
     public HologramStorage getStorage() {
         return storage;
     }
+    
+    public HologramRenderer getRenderer() {
+        return renderer;
+    }
+    
+    public RefreshScheduler getRefreshScheduler() {
+        return refreshScheduler;
+    }
+    
+    public AnimationClock getAnimationClock() {
+        return animationClock;
+    }
+    
+    public PageCycler getPageCycler() {
+        return pageCycler;
+    }
+    
+    public HologramStats getStats() {
+        return stats;
+    }
 
 }
 
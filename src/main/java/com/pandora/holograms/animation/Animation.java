@@ -0,0 +1,65 @@
+package com.pandora.holograms.animation;
+
+import com.pandora.holograms.util.PlaceholderUtil;
+
+/**
+ * A precomputed animation: a fixed list of frames shown one after another.
+ * Identical animation tags share one instance, so every hologram using the same
+ * tag shows the same frame and the frames are only built once.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class Animation {
+    
+    private final int interval;
+    private final String[] frames;
+    private final boolean placeholders;
+    private volatile int frame;
+    
+    public Animation(int interval, String[] frames) {
+        this.interval = interval;
+        this.frames = frames;
+        boolean found = false;
+        for (String text : frames) {
+            found |= PlaceholderUtil.containsPlaceholders(text);
+        }
+        this.placeholders = found;
+    }
+    
+    /**
+     * Get the number of ticks each frame is shown for
+     */
+    public int getInterval() {
+        return interval;
+    }
+    
+    public int getFrameCount() {
+        return frames.length;
+    }
+    
+    public String getCurrentFrame() {
+        return frames[frame];
+    }
+    
+    /**
+     * Check if any frame contains placeholders that must be resolved per player
+     */
+    public boolean hasPlaceholders() {
+        return placeholders;
+    }
+    
+    /**
+     * Move to the next frame
+     * 
+     * @return True if the text of the new frame differs from the previous one
+     */
+    public boolean advance() {
+        int current = frame;
+        int next = (current + 1) % frames.length;
+        frame = next;
+        return !frames[next].equals(frames[current]);
+    }
+
+}
+
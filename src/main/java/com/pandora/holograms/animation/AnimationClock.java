@@ -0,0 +1,108 @@
+package com.pandora.holograms.animation;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.HologramLine;
+import com.pandora.holograms.hologram.LineHolder;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One shared tick clock for every animated line.
+ * Each animation advances once per interval no matter how many lines use it,
+ * and only lines whose frame text actually changed are re-rendered.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class AnimationClock implements Runnable {
+    
+    private final PandoraHologramsPlugin plugin;
+    private final Map<Animation, Map<HologramLine, LineHolder>> subscribers;
+    private BukkitTask task;
+    private long tick;
+    
+    public AnimationClock(PandoraHologramsPlugin plugin) {
+        this.plugin = plugin;
+        this.subscribers = new IdentityHashMap<>();
+    }
+    
+    public void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1L, 1L);
+        }
+    }
+    
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        subscribers.clear();
+    }
+    
+    /**
+     * Animate a line of a spawned hologram. Lines without animations are ignored.
+     * 
+     * @param holder The hologram or template the line belongs to
+     * @param line The line to animate
+     */
+    public void subscribe(LineHolder holder, HologramLine line) {
+        for (Animation animation : line.getTemplate().getAnimations()) {
+            subscribers.computeIfAbsent(animation, key -> new IdentityHashMap<>()).put(line, holder);
+        }
+    }
+    
+    @Override
+    public void run() {
+        tick++;
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        
+        Set<HologramLine> refreshed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Iterator<Map.Entry<Animation, Map<HologramLine, LineHolder>>> animations = subscribers.entrySet().iterator();
+        while (animations.hasNext()) {
+            Map.Entry<Animation, Map<HologramLine, LineHolder>> entry = animations.next();
+            Animation animation = entry.getKey();
+            if (tick % animation.getInterval() != 0 || !animation.advance()) {
+                continue;
+            }
+            
+            Iterator<Map.Entry<HologramLine, LineHolder>> lines = entry.getValue().entrySet().iterator();
+            while (lines.hasNext()) {
+                Map.Entry<HologramLine, LineHolder> subscriber = lines.next();
+                LineHolder holder = subscriber.getValue();
+                
+                // Lines that were replaced or belong to a despawned hologram drop out here
+                int index = holder.getLineIndex(subscriber.getKey());
+                if (index < 0 || !holder.isSpawned()) {
+                    lines.remove();
+                    continue;
+                }
+                
+                // A line with several animations is only re-rendered once per tick
+                if (!holder.getViewers().isEmpty() && refreshed.add(subscriber.getKey())) {
+                    holder.refreshLine(subscriber.getKey());
+                }
+            }
+            if (entry.getValue().isEmpty()) {
+                animations.remove();
+            }
+        }
+    }
+    
+    /**
+     * Get the number of distinct animations currently running
+     */
+    public int getAnimationCount() {
+        return subscribers.size();
+    }
+
+}
+
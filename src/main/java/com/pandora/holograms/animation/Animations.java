@@ -0,0 +1,185 @@
+package com.pandora.holograms.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Parses animation tags and builds their frames.
+ * 
+ * <ul>
+ *   <li>{frames:&lt;ticks&gt;:first|second|third} - cycle through a list of frames</li>
+ *   <li>{typewriter:&lt;ticks&gt;:text} - type the text one character at a time</li>
+ *   <li>{scroll:&lt;ticks&gt;:&lt;width&gt;:text} - scroll the text through a window of width characters</li>
+ *   <li>{gradient:&lt;ticks&gt;:#ff0000,#0000ff:text} - move a hex colour gradient across the text (1.16+)</li>
+ * </ul>
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public final class Animations {
+    
+    public static final Pattern TAG_PATTERN = Pattern.compile("\\{(frames|typewriter|scroll|gradient):([^{}]+)}");
+    
+    private static final Map<String, Animation> CACHE = new ConcurrentHashMap<>();
+    
+    private Animations() {
+    }
+    
+    /**
+     * Get the shared animation for a tag
+     * 
+     * @param type The animation type
+     * @param args Everything after the type, e.g. "20:a|b" for {frames:20:a|b}
+     * @return The animation, or null if the arguments are invalid
+     */
+    public static Animation get(String type, String args) {
+        String key = type + ":" + args;
+        Animation cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Animation created = create(type, args);
+        if (created == null) {
+            return null;
+        }
+        Animation existing = CACHE.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+    
+    private static Animation create(String type, String args) {
+        String[] parts = args.split(":", type.equals("scroll") || type.equals("gradient") ? 3 : 2);
+        if (parts.length < (type.equals("scroll") || type.equals("gradient") ? 3 : 2)) {
+            return null;
+        }
+        
+        int interval;
+        try {
+            interval = Integer.parseInt(parts[0].trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (interval < 1) {
+            return null;
+        }
+        
+        String[] frames;
+        switch (type) {
+            case "frames":
+                frames = parts[1].split("\\|", -1);
+                for (int i = 0; i < frames.length; i++) {
+                    frames[i] = colorize(frames[i]);
+                }
+                break;
+            case "typewriter":
+                frames = typewriter(Glyph.parse(colorize(parts[1])), interval);
+                break;
+            case "scroll":
+                try {
+                    frames = scroll(Glyph.parse(colorize(parts[2])), Integer.parseInt(parts[1].trim()));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                break;
+            case "gradient":
+                frames = gradient(Glyph.parse(colorize(parts[2])), parts[1].split(","));
+                break;
+            default:
+                return null;
+        }
+        return frames != null && frames.length > 0 ? new Animation(interval, frames) : null;
+    }
+    
+    private static String[] typewriter(List<Glyph> glyphs, int interval) {
+        if (glyphs.isEmpty()) {
+            return null;
+        }
+        // Keep the full text up for about a second before starting over
+        int hold = Math.max(1, 20 / interval);
+        String[] frames = new String[glyphs.size() + hold];
+        for (int i = 0; i < glyphs.size(); i++) {
+            frames[i] = Glyph.join(glyphs.subList(0, i + 1));
+        }
+        String full = Glyph.join(glyphs);
+        for (int i = glyphs.size(); i < frames.length; i++) {
+            frames[i] = full;
+        }
+        return frames;
+    }
+    
+    private static String[] scroll(List<Glyph> glyphs, int width) {
+        if (glyphs.isEmpty() || width < 1) {
+            return null;
+        }
+        // Pad with a full window of spaces so the text scrolls out before it comes back
+        List<Glyph> padded = new ArrayList<>(glyphs);
+        for (int i = 0; i < width; i++) {
+            padded.add(new Glyph(' ', ""));
+        }
+        
+        String[] frames = new String[padded.size()];
+        List<Glyph> window = new ArrayList<>(width);
+        for (int i = 0; i < frames.length; i++) {
+            window.clear();
+            for (int j = 0; j < width; j++) {
+                window.add(padded.get((i + j) % padded.size()));
+            }
+            frames[i] = Glyph.join(window);
+        }
+        return frames;
+    }
+    
+    private static String[] gradient(List<Glyph> glyphs, String[] colorArgs) {
+        if (glyphs.isEmpty()) {
+            return null;
+        }
+        int[] colors = new int[colorArgs.length];
+        for (int i = 0; i < colorArgs.length; i++) {
+            try {
+                colors[i] = Integer.parseInt(colorArgs[i].trim().replace("#", ""), 16);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        
+        int size = glyphs.size();
+        String[] frames = new String[size];
+        for (int frame = 0; frame < size; frame++) {
+            StringBuilder builder = new StringBuilder(size * 18);
+            for (int i = 0; i < size; i++) {
+                Glyph glyph = glyphs.get(i);
+                double position = ((i + frame) % size) / (double) size * colors.length;
+                int index = (int) position;
+                int color = blend(colors[index], colors[(index + 1) % colors.length], position - index);
+                appendHexColor(builder, color);
+                builder.append(glyph.getFormats()).append(glyph.getCharacter());
+            }
+            frames[frame] = builder.toString();
+        }
+        return frames;
+    }
+    
+    private static int blend(int from, int to, double ratio) {
+        int r = (int) Math.round(((from >> 16) & 0xFF) + (((to >> 16) & 0xFF) - ((from >> 16) & 0xFF)) * ratio);
+        int g = (int) Math.round(((from >> 8) & 0xFF) + (((to >> 8) & 0xFF) - ((from >> 8) & 0xFF)) * ratio);
+        int b = (int) Math.round((from & 0xFF) + ((to & 0xFF) - (from & 0xFF)) * ratio);
+        return (r << 16) | (g << 8) | b;
+    }
+    
+    private static void appendHexColor(StringBuilder builder, int color) {
+        String hex = String.format("%06x", color & 0xFFFFFF);
+        builder.append("§x");
+        for (int i = 0; i < hex.length(); i++) {
+            builder.append('§').append(hex.charAt(i));
+        }
+    }
+    
+    private static String colorize(String text) {
+        return text.replace('&', '§');
+    }
+
+}
+
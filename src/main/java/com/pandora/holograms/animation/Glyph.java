@@ -0,0 +1,93 @@
+package com.pandora.holograms.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A visible character together with the colour and format codes in effect for it.
+ * Lets animations cut and rearrange coloured text without splitting colour codes.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+class Glyph {
+    
+    private final char character;
+    private final String style;
+    
+    Glyph(char character, String style) {
+        this.character = character;
+        this.style = style;
+    }
+    
+    char getCharacter() {
+        return character;
+    }
+    
+    /**
+     * Get only the format codes (bold, italic, ...) of the style, without the colour
+     */
+    String getFormats() {
+        StringBuilder formats = new StringBuilder();
+        for (int i = 0; i + 1 < style.length(); i += 2) {
+            char code = style.charAt(i + 1);
+            if (code >= 'k' && code <= 'o') {
+                formats.append('§').append(code);
+            }
+        }
+        return formats.toString();
+    }
+    
+    /**
+     * Split colourised text into glyphs
+     */
+    static List<Glyph> parse(String text) {
+        List<Glyph> glyphs = new ArrayList<>(text.length());
+        String style = "";
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '§' && i + 1 < text.length()) {
+                char code = Character.toLowerCase(text.charAt(i + 1));
+                if (code == 'x' && i + 14 <= text.length()) {
+                    style = text.substring(i, i + 14);
+                    i += 14;
+                    continue;
+                }
+                if ((code >= '0' && code <= '9') || (code >= 'a' && code <= 'f')) {
+                    style = "§" + code;
+                } else if (code == 'r') {
+                    style = "";
+                } else if (code >= 'k' && code <= 'o') {
+                    style = style + "§" + code;
+                }
+                i += 2;
+                continue;
+            }
+            glyphs.add(new Glyph(c, style));
+            i++;
+        }
+        return glyphs;
+    }
+    
+    /**
+     * Join glyphs back into text, only emitting codes where the style changes
+     */
+    static String join(List<Glyph> glyphs) {
+        StringBuilder builder = new StringBuilder(glyphs.size() * 2);
+        String current = null;
+        for (Glyph glyph : glyphs) {
+            if (!glyph.style.equals(current)) {
+                if (current != null && !current.isEmpty()) {
+                    builder.append("§r");
+                }
+                builder.append(glyph.style);
+                current = glyph.style;
+            }
+            builder.append(glyph.character);
+        }
+        return builder.toString();
+    }
+
+}
+
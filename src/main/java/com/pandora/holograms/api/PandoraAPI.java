@@ -2,8 +2,12 @@ package com.pandora.holograms.api;
 
 import com.pandora.holograms.PandoraHologramsPlugin;
 import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.hologram.HologramEditor;
+import com.pandora.holograms.hologram.HologramTemplate;
 import com.pandora.holograms.manager.HologramManager;
+import com.pandora.holograms.stats.HologramStats;
 import org.bukkit.Location;
+import org.bukkit.entity.Player;
 
 import java.util.Collection;
 import java.util.List;
@@ -51,6 +55,68 @@ public class PandoraAPI {
         return manager.createHologram(name, location, lines);
     }
     
+    /**
+     * Create a new hologram that shares its lines with a template.
+     * Lines set on the hologram afterwards are kept as overrides of the template.
+     * 
+     * @param name The unique name/ID of the hologram
+     * @param location The location where the hologram should be created
+     * @param template The name of the template
+     * @return The created Hologram object, or null if creation failed or the template does not exist
+     */
+    public static Hologram createHologramFromTemplate(String name, Location location, String template) {
+        HologramTemplate found = getTemplate(template);
+        if (found == null) {
+            return null;
+        }
+        Hologram hologram = getPlugin().getHologramManager().createHologram(name, location, found);
+        if (hologram != null) {
+            getPlugin().getHologramManager().saveHologram(name);
+        }
+        return hologram;
+    }
+    
+    /**
+     * Create a template that many holograms can share
+     * 
+     * @param name The unique name of the template
+     * @param lines The lines of the template
+     * @return The created template, or null if the name is taken
+     */
+    public static HologramTemplate createTemplate(String name, List<String> lines) {
+        HologramManager manager = getPlugin().getHologramManager();
+        if (manager == null) {
+            return null;
+        }
+        return manager.getTemplateManager().createTemplate(name, lines);
+    }
+    
+    /**
+     * Get a template by its name. Edits to the template reach all of its holograms
+     * and are saved with them.
+     * 
+     * @param name The name of the template
+     * @return The template, or null if not found
+     */
+    public static HologramTemplate getTemplate(String name) {
+        HologramManager manager = getPlugin().getHologramManager();
+        if (manager == null) {
+            return null;
+        }
+        return manager.getTemplateManager().getTemplate(name);
+    }
+    
+    /**
+     * Queue every template for saving. Template edits already save themselves,
+     * this is only needed to force a full rewrite.
+     */
+    public static void saveTemplates() {
+        HologramManager manager = getPlugin().getHologramManager();
+        if (manager != null) {
+            manager.getTemplateManager().save();
+        }
+    }
+    
     /**
      * Get a hologram by its name
      * 
@@ -76,11 +142,7 @@ public class PandoraAPI {
         if (manager == null) {
             return false;
         }
-        boolean deleted = manager.deleteHologram(name);
-        if (deleted) {
-            getPlugin().getStorage().deleteHologram(name);
-        }
-        return deleted;
+        return manager.deleteHologram(name);
     }
     
     /**
@@ -98,9 +160,9 @@ public class PandoraAPI {
     }
     
     /**
-     * Get all holograms
+     * Get all holograms. Safe to call from any thread.
      * 
-     * @return A collection of all holograms
+     * @return An unmodifiable snapshot of all holograms
      */
     public static Collection<Hologram> getAllHolograms() {
         HologramManager manager = getPlugin().getHologramManager();
@@ -110,6 +172,34 @@ public class PandoraAPI {
         return manager.getAllHolograms();
     }
     
+    /**
+     * Get the holograms within a radius of a location, nearest first.
+     * Uses the chunk index, so only holograms in nearby chunks are checked.
+     * 
+     * @param location The center of the search
+     * @param radius The radius in blocks
+     * @return The holograms in range
+     */
+    public static List<Hologram> getHologramsNear(Location location, double radius) {
+        HologramManager manager = getPlugin().getHologramManager();
+        if (manager == null) {
+            return new java.util.ArrayList<>();
+        }
+        return manager.getHologramsNear(location, radius);
+    }
+    
+    /**
+     * Start a batch edit of a hologram. The changes are rendered and saved together
+     * when {@link HologramEditor#commit()} is called.
+     * 
+     * @param name The name/ID of the hologram
+     * @return An editor for the hologram, or null if not found
+     */
+    public static HologramEditor editHologram(String name) {
+        Hologram hologram = getHologram(name);
+        return hologram != null ? hologram.edit() : null;
+    }
+    
     /**
      * Move a hologram to a new location
      * 
@@ -126,6 +216,30 @@ public class PandoraAPI {
         getPlugin().getHologramManager().saveHologram(name);
         return true;
     }
+    
+    /**
+     * Check a player's permissions again after they changed, showing or hiding
+     * permission-gated holograms to match. Permission results are cached, so permission
+     * plugins that don't resend the command list on a change should call this.
+     * 
+     * @param player The player whose permissions changed
+     */
+    public static void refreshPermissions(Player player) {
+        HologramManager manager = getPlugin().getHologramManager();
+        if (manager != null) {
+            manager.getViewTracker().recheckPermissions(player);
+        }
+    }
+    
+    /**
+     * Get the performance statistics of the plugin, such as spawn counts,
+     * refresh timings and storage flush latency
+     * 
+     * @return The statistics
+     */
+    public static HologramStats getStats() {
+        return getPlugin().getStats();
+    }
 
 }
 
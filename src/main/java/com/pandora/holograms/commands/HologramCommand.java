@@ -1,25 +1,44 @@
 package com.pandora.holograms.commands;
 
 import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.hologram.HologramTemplate;
 import com.pandora.holograms.manager.HologramManager;
+import com.pandora.holograms.manager.HologramQuery;
+import com.pandora.holograms.manager.TemplateManager;
 import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.stats.DurationHistogram;
+import com.pandora.holograms.stats.HologramStats;
+import com.pandora.holograms.storage.HologramData;
+import com.pandora.holograms.storage.HologramTransfer;
 import com.pandora.holograms.util.BrowserUtil;
+import com.pandora.holograms.util.GlobalPlaceholderCache;
 import com.pandora.holograms.util.MessageUtil;
+import com.pandora.holograms.util.TextCache;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class HologramCommand implements CommandExecutor, TabCompleter {
     
+    private static final List<String> STORAGE_TYPES = Arrays.asList("yaml", "binary", "sqlite", "mysql");
+    private static final List<String> LIST_FILTERS = Arrays.asList("world:", "radius:", "name:", "line:");
+    private static final List<String> TEMPLATE_ACTIONS = Arrays.asList("list", "create", "delete", "apply", "detach", "addline", "setline", "removeline");
+    private static final List<String> READ_ONLY_COMMANDS = Arrays.asList("help", "list", "search", "find", "near", "live",
+            "info", "teleport", "tp", "stats", "export", "version", "ver");
+    private static final int PAGE_SIZE = 10;
+    
     private final PandoraHologramsPlugin plugin;
     private final HologramManager manager;
     
@@ -44,6 +63,12 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         String subCommand = args[0].toLowerCase();
         
+        // An edit made while loading would be replaced by the stored hologram of the same name
+        if (manager.isLoading() && !READ_ONLY_COMMANDS.contains(subCommand)) {
+            player.sendMessage(MessageUtil.formatError("Holograms are still loading, please try again in a moment!"));
+            return true;
+        }
+        
         switch (subCommand) {
             case "help":
                 handleHelp(player, args);
@@ -69,6 +94,13 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             case "list":
                 handleList(player, args);
                 break;
+            case "search":
+            case "find":
+                handleSearch(player, args);
+                break;
+            case "near":
+                handleNear(player, args);
+                break;
             case "reload":
                 handleReload(player, args);
                 break;
@@ -90,9 +122,40 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             case "insert":
                 handleInsertLine(player, args);
                 break;
+            case "addpage":
+                handleAddPage(player, args);
+                break;
+            case "removepage":
+                handleRemovePage(player, args);
+                break;
+            case "page":
+                handlePage(player, args);
+                break;
+            case "pageinterval":
+                handlePageInterval(player, args);
+                break;
+            case "template":
+                handleTemplate(player, args);
+                break;
             case "update":
                 handleUpdate(player, args);
                 break;
+            case "setrange":
+            case "range":
+                handleSetRange(player, args);
+                break;
+            case "stats":
+                handleStats(player, args);
+                break;
+            case "convert":
+                handleConvert(player, args);
+                break;
+            case "import":
+                handleImport(player, args);
+                break;
+            case "export":
+                handleExport(player, args);
+                break;
             case "version":
             case "ver":
                 handleVersion(player, args);
@@ -192,11 +255,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         if (args.length < 3) {
-            player.sendMessage(MessageUtil.formatError("Usage: /holo addline <name> <text>"));
+            player.sendMessage(MessageUtil.formatError("Usage: /holo addline <name[:page]> <text>"));
             return;
         }
         
-        String name = args[1];
+        String name = getHologramName(args[1]);
         Hologram hologram = manager.getHologram(name);
         
         if (hologram == null) {
@@ -204,13 +267,18 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
+        int page = getTargetPage(player, hologram, args[1]);
+        if (page < 0) {
+            return;
+        }
+        
         StringBuilder text = new StringBuilder();
         for (int i = 2; i < args.length; i++) {
             if (i > 2) text.append(" ");
             text.append(args[i]);
         }
         
-        hologram.addLine(text.toString());
+        hologram.addLine(page, text.toString());
         manager.saveHologram(name);
         player.sendMessage(MessageUtil.formatSuccess("Added line to hologram &6" + name + "&e!"));
     }
@@ -222,11 +290,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         if (args.length < 4) {
-            player.sendMessage(MessageUtil.formatError("Usage: /holo setline <name> <index> <text>"));
+            player.sendMessage(MessageUtil.formatError("Usage: /holo setline <name[:page]> <index> <text>"));
             return;
         }
         
-        String name = args[1];
+        String name = getHologramName(args[1]);
         Hologram hologram = manager.getHologram(name);
         
         if (hologram == null) {
@@ -234,11 +302,16 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
+        int page = getTargetPage(player, hologram, args[1]);
+        if (page < 0) {
+            return;
+        }
+        
         try {
             int index = Integer.parseInt(args[2]) - 1; // Convert to 0-based index
             
-            if (index < 0 || index >= hologram.getLines().size()) {
-                player.sendMessage(MessageUtil.formatError("Invalid line index! Hologram has &6" + hologram.getLines().size() + " &cline(s)."));
+            if (index < 0 || index >= hologram.getPageLines(page).size()) {
+                player.sendMessage(MessageUtil.formatError("Invalid line index! Hologram has &6" + hologram.getPageLines(page).size() + " &cline(s)."));
                 return;
             }
             
@@ -248,7 +321,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                 text.append(args[i]);
             }
             
-            hologram.setLine(index, text.toString());
+            hologram.setLine(page, index, text.toString());
             manager.saveHologram(name);
             player.sendMessage(MessageUtil.formatSuccess("Set line &6" + (index + 1) + " &eof hologram &6" + name + "&e!"));
         } catch (NumberFormatException e) {
@@ -263,11 +336,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         if (args.length < 3) {
-            player.sendMessage(MessageUtil.formatError("Usage: /holo removeline <name> <index>"));
+            player.sendMessage(MessageUtil.formatError("Usage: /holo removeline <name[:page]> <index>"));
             return;
         }
         
-        String name = args[1];
+        String name = getHologramName(args[1]);
         Hologram hologram = manager.getHologram(name);
         
         if (hologram == null) {
@@ -275,15 +348,20 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
+        int page = getTargetPage(player, hologram, args[1]);
+        if (page < 0) {
+            return;
+        }
+        
         try {
             int index = Integer.parseInt(args[2]) - 1; // Convert to 0-based index
             
-            if (index < 0 || index >= hologram.getLines().size()) {
-                player.sendMessage(MessageUtil.formatError("Invalid line index! Hologram has &6" + hologram.getLines().size() + " &cline(s)."));
+            if (index < 0 || index >= hologram.getPageLines(page).size()) {
+                player.sendMessage(MessageUtil.formatError("Invalid line index! Hologram has &6" + hologram.getPageLines(page).size() + " &cline(s)."));
                 return;
             }
             
-            hologram.removeLine(index);
+            hologram.removeLine(page, index);
             manager.saveHologram(name);
             player.sendMessage(MessageUtil.formatSuccess("Removed line &6" + (index + 1) + " &efrom hologram &6" + name + "&e!"));
         } catch (NumberFormatException e) {
@@ -334,7 +412,6 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         manager.deleteHologram(name);
-        plugin.getStorage().deleteHologram(name);
         player.sendMessage(MessageUtil.formatSuccess("Deleted hologram &6" + name + "&e!"));
     }
     
@@ -348,29 +425,167 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        Collection<Hologram> allHolograms = manager.getAllHolograms();
+        HologramQuery query = new HologramQuery();
+        int page = 1;
+        StringBuilder filters = new StringBuilder();
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            int colon = arg.indexOf(':');
+            if (colon < 0) {
+                try {
+                    page = Integer.parseInt(arg);
+                    continue;
+                } catch (NumberFormatException e) {
+                    player.sendMessage(MessageUtil.formatError("Usage: /holo list [page] [world:<world>] [radius:<blocks>] [name:<pattern>] [line:<text>]"));
+                    return;
+                }
+            }
+            
+            String key = arg.substring(0, colon).toLowerCase();
+            String value = arg.substring(colon + 1);
+            switch (key) {
+                case "world":
+                    World world = Bukkit.getWorld(value);
+                    if (world == null) {
+                        player.sendMessage(MessageUtil.formatError("World '&6" + value + "&c' not found!"));
+                        return;
+                    }
+                    query.world(world);
+                    break;
+                case "radius":
+                    try {
+                        query.near(player.getLocation(), Double.parseDouble(value));
+                    } catch (NumberFormatException e) {
+                        player.sendMessage(MessageUtil.formatError("Radius must be a number!"));
+                        return;
+                    }
+                    break;
+                case "name":
+                    query.name(value);
+                    break;
+                case "line":
+                    query.text(value);
+                    break;
+                default:
+                    player.sendMessage(MessageUtil.formatError("Unknown filter '&6" + key + "&c'! Use world, radius, name or line."));
+                    return;
+            }
+            filters.append(' ').append(arg);
+        }
+        
+        sendResults(player, query, page, "list" + filters);
+    }
+    
+    private void handleSearch(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.use")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to search holograms!"));
+            return;
+        }
+        
+        if (args.length < 2) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo search <text> [page]"));
+            return;
+        }
+        
+        // A trailing number is the page, unless it is the only word searched for
+        int page = 1;
+        int textEnd = args.length;
+        if (args.length > 2) {
+            try {
+                page = Integer.parseInt(args[args.length - 1]);
+                textEnd--;
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        String text = String.join(" ", Arrays.copyOfRange(args, 1, textEnd));
+        
+        sendResults(player, new HologramQuery().text(text), page, "search " + text);
+    }
+    
+    private void handleNear(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.use")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to use this command!"));
+            return;
+        }
+        
+        double radius = 10.0;
+        if (args.length > 1) {
+            try {
+                radius = Double.parseDouble(args[1]);
+            } catch (NumberFormatException e) {
+                player.sendMessage(MessageUtil.formatError("Radius must be a number!"));
+                return;
+            }
+            if (radius <= 0) {
+                player.sendMessage(MessageUtil.formatError("Radius must be greater than 0!"));
+                return;
+            }
+        }
         
-        if (allHolograms.isEmpty()) {
-            player.sendMessage(MessageUtil.formatText("There are no holograms created yet."));
+        Location location = player.getLocation();
+        List<Hologram> nearby = manager.getHologramsNear(location, radius);
+        if (nearby.isEmpty()) {
+            player.sendMessage(MessageUtil.formatText("No holograms within &6" + formatDistance(radius) + " &7blocks."));
             return;
         }
         
         player.sendMessage(MessageUtil.colorize("&e&lPandora Holograms&r&7"));
-        player.sendMessage(MessageUtil.formatText("Hologram List &7(" + MessageUtil.VALUE + allHolograms.size() + MessageUtil.TEXT + "):"));
-        int count = 1;
-        for (Hologram hologram : allHolograms) {
-            Location loc = hologram.getLocation();
-            String worldName = loc.getWorld() != null ? loc.getWorld().getName() : "unknown";
-            player.sendMessage(MessageUtil.formatText("  " + count + ". &6" + hologram.getName() + 
-                    " &7- " + worldName + " &8(" + 
-                    String.format("%.1f", loc.getX()) + ", " + 
-                    String.format("%.1f", loc.getY()) + ", " + 
-                    String.format("%.1f", loc.getZ()) + ") &7- &6" + 
-                    hologram.getLines().size() + " &7line(s)"));
-            count++;
+        player.sendMessage(MessageUtil.formatText("Nearby Holograms &7(" + MessageUtil.VALUE + nearby.size() + MessageUtil.TEXT + "):"));
+        int shown = Math.min(nearby.size(), PAGE_SIZE);
+        for (int i = 0; i < shown; i++) {
+            Hologram hologram = nearby.get(i);
+            player.sendMessage(MessageUtil.formatText("  " + (i + 1) + ". &6" + hologram.getName() + 
+                    " &7- &6" + formatDistance(hologram.getLocation().distance(location)) + " &7blocks away &8(" + 
+                    hologram.getLineCount() + " line(s))"));
+        }
+        if (nearby.size() > shown) {
+            player.sendMessage(MessageUtil.formatText("&7... and &6" + (nearby.size() - shown) + " &7more, use a smaller radius."));
         }
     }
     
+    private String formatDistance(double distance) {
+        return String.format("%.1f", distance);
+    }
+    
+    /**
+     * Run a search and send one page of the results
+     * 
+     * @param command The command, without page, that shows the other pages
+     */
+    private void sendResults(Player player, HologramQuery query, int page, String command) {
+        manager.search(query).thenAccept(results -> {
+            if (!player.isOnline()) {
+                return;
+            }
+            if (results.isEmpty()) {
+                player.sendMessage(MessageUtil.formatText(manager.getAllHolograms().isEmpty() ? "There are no holograms created yet." : "No holograms found."));
+                return;
+            }
+            
+            int pages = (results.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+            int current = Math.max(1, Math.min(page, pages));
+            int from = (current - 1) * PAGE_SIZE;
+            int to = Math.min(from + PAGE_SIZE, results.size());
+            
+            player.sendMessage(MessageUtil.colorize("&e&lPandora Holograms&r&7"));
+            player.sendMessage(MessageUtil.formatText("Hologram List &7(" + MessageUtil.VALUE + results.size() + MessageUtil.TEXT + ") &8- &7Page &6" + current + "&7/&6" + pages + "&7:"));
+            for (int i = from; i < to; i++) {
+                Hologram hologram = results.get(i);
+                Location loc = hologram.getLocation();
+                String worldName = loc.getWorld() != null ? loc.getWorld().getName() : "unknown";
+                player.sendMessage(MessageUtil.formatText("  " + (i + 1) + ". &6" + hologram.getName() + 
+                        " &7- " + worldName + " &8(" + 
+                        String.format("%.1f", loc.getX()) + ", " + 
+                        String.format("%.1f", loc.getY()) + ", " + 
+                        String.format("%.1f", loc.getZ()) + ") &7- &6" + 
+                        hologram.getLineCount() + " &7line(s)"));
+            }
+            if (current < pages) {
+                player.sendMessage(MessageUtil.formatText("Next page: &6/holo " + command + " " + (current + 1)));
+            }
+        });
+    }
+    
     private void handleReload(Player player, String[] args) {
         if (!player.hasPermission("pandoraholograms.admin")) {
             player.sendMessage(MessageUtil.formatError("You don't have permission to reload the plugin!"));
@@ -382,8 +597,16 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             manager.saveAll();
             manager.removeAll();
             plugin.reloadConfig();
-            manager.loadAll();
-            player.sendMessage(MessageUtil.formatSuccess("Reloaded successfully! &7(&6" + manager.getAllHolograms().size() + " &7hologram(s) loaded)"));
+            manager.loadAll().whenComplete((count, error) -> {
+                if (!player.isOnline()) {
+                    return;
+                }
+                if (error != null) {
+                    player.sendMessage(MessageUtil.formatError("Failed to reload! Check console for errors."));
+                } else {
+                    player.sendMessage(MessageUtil.formatSuccess("Reloaded successfully! &7(&6" + count + " &7hologram(s) loaded)"));
+                }
+            });
         } catch (Exception e) {
             player.sendMessage(MessageUtil.formatError("Failed to reload! Check console for errors."));
             plugin.getLogger().severe("Failed to reload PandoraHolograms: " + e.getMessage());
@@ -444,7 +667,18 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                 String.format("%.2f", loc.getY()) + ", " + 
                 String.format("%.2f", loc.getZ()) + ")"));
         player.sendMessage(MessageUtil.formatText("&7Lines: &6" + hologram.getLineCount()));
+        if (hologram.getPageCount() > 1) {
+            player.sendMessage(MessageUtil.formatText("&7Pages: &6" + hologram.getPageCount() + " &8(viewing " + (hologram.getPage(player) + 1) + ")"));
+            if (hologram.getPageInterval() > 0) {
+                player.sendMessage(MessageUtil.formatText("&7Page Interval: &6" + hologram.getPageInterval() + " ticks"));
+            }
+        }
+        if (hologram.getTemplate() != null) {
+            player.sendMessage(MessageUtil.formatText("&7Template: &6" + hologram.getTemplate().getName() + " &8(" + hologram.getOverrides().size() + " override(s))"));
+        }
         player.sendMessage(MessageUtil.formatText("&7Line Height: &6" + String.format("%.2f", hologram.getLineHeight())));
+        player.sendMessage(MessageUtil.formatText("&7Display Range: &6" + String.format("%.1f", hologram.getDisplayRange())));
+        player.sendMessage(MessageUtil.formatText("&7Viewers: &6" + hologram.getViewers().size()));
         player.sendMessage(MessageUtil.formatText("&7Spawned: &6" + (hologram.isSpawned() ? "Yes" : "No")));
         if (hologram.getPermission() != null && !hologram.getPermission().isEmpty()) {
             player.sendMessage(MessageUtil.formatText("&7Permission: &6" + hologram.getPermission()));
@@ -515,7 +749,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         // Use the clone method
         Hologram cloned = source.clone(newName, newLocation);
         manager.addHologram(cloned);
-        cloned.spawn();
+        manager.spawnIfLoaded(cloned);
         manager.saveHologram(newName);
         
         player.sendMessage(MessageUtil.formatSuccess("Cloned hologram &6" + sourceName + " &eto &6" + newName + "&e!"));
@@ -528,11 +762,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         if (args.length < 4) {
-            player.sendMessage(MessageUtil.formatError("Usage: /holo insertline <name> <index> <text>"));
+            player.sendMessage(MessageUtil.formatError("Usage: /holo insertline <name[:page]> <index> <text>"));
             return;
         }
         
-        String name = args[1];
+        String name = getHologramName(args[1]);
         Hologram hologram = manager.getHologram(name);
         
         if (hologram == null) {
@@ -540,11 +774,16 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
+        int page = getTargetPage(player, hologram, args[1]);
+        if (page < 0) {
+            return;
+        }
+        
         try {
             int index = Integer.parseInt(args[2]) - 1; // Convert to 0-based index
             
-            if (index < 0 || index > hologram.getLines().size()) {
-                player.sendMessage(MessageUtil.formatError("Invalid line index! Must be between 1 and " + (hologram.getLines().size() + 1) + "."));
+            if (index < 0 || index > hologram.getPageLines(page).size()) {
+                player.sendMessage(MessageUtil.formatError("Invalid line index! Must be between 1 and " + (hologram.getPageLines(page).size() + 1) + "."));
                 return;
             }
             
@@ -554,7 +793,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                 text.append(args[i]);
             }
             
-            hologram.insertLine(index, text.toString());
+            hologram.insertLine(page, index, text.toString());
             manager.saveHologram(name);
             player.sendMessage(MessageUtil.formatSuccess("Inserted line at position &6" + (index + 1) + " &ein hologram &6" + name + "&e!"));
         } catch (NumberFormatException e) {
@@ -562,6 +801,322 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    private void handleAddPage(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.edit")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to edit holograms!"));
+            return;
+        }
+        
+        if (args.length < 3) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo addpage <name> <text>"));
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = manager.getHologram(name);
+        
+        if (hologram == null) {
+            player.sendMessage(MessageUtil.formatError("Hologram &6" + name + " &cdoes not exist!"));
+            return;
+        }
+        
+        StringBuilder text = new StringBuilder();
+        for (int i = 2; i < args.length; i++) {
+            if (i > 2) text.append(" ");
+            text.append(args[i]);
+        }
+        
+        int page = hologram.addPage(Collections.singletonList(text.toString()));
+        manager.saveHologram(name);
+        player.sendMessage(MessageUtil.formatSuccess("Added page &6" + (page + 1) + " &eto hologram &6" + name + "&e! Edit it with &6/holo addline " + name + ":" + (page + 1) + " <text>"));
+    }
+    
+    private void handleRemovePage(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.edit")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to edit holograms!"));
+            return;
+        }
+        
+        if (args.length < 3) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo removepage <name> <page>"));
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = manager.getHologram(name);
+        
+        if (hologram == null) {
+            player.sendMessage(MessageUtil.formatError("Hologram &6" + name + " &cdoes not exist!"));
+            return;
+        }
+        
+        try {
+            int page = Integer.parseInt(args[2]) - 1; // Convert to 0-based index
+            
+            if (page < 0 || page >= hologram.getPageCount()) {
+                player.sendMessage(MessageUtil.formatError("Invalid page! Hologram has &6" + hologram.getPageCount() + " &cpage(s)."));
+                return;
+            }
+            if (!hologram.removePage(page)) {
+                player.sendMessage(MessageUtil.formatError("Cannot remove the only page of a hologram!"));
+                return;
+            }
+            
+            manager.saveHologram(name);
+            player.sendMessage(MessageUtil.formatSuccess("Removed page &6" + (page + 1) + " &efrom hologram &6" + name + "&e!"));
+        } catch (NumberFormatException e) {
+            player.sendMessage(MessageUtil.formatError("Invalid page number: &6" + args[2] + "&c!"));
+        }
+    }
+    
+    private void handlePage(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.use")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to use this command!"));
+            return;
+        }
+        
+        if (args.length < 3) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo page <name> <page|next|previous>"));
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = manager.getHologram(name);
+        
+        if (hologram == null) {
+            player.sendMessage(MessageUtil.formatError("Hologram &6" + name + " &cdoes not exist!"));
+            return;
+        }
+        
+        int count = hologram.getPageCount();
+        int current = hologram.getPage(player);
+        int page;
+        if (args[2].equalsIgnoreCase("next")) {
+            page = (current + 1) % count;
+        } else if (args[2].equalsIgnoreCase("previous") || args[2].equalsIgnoreCase("prev")) {
+            page = (current + count - 1) % count;
+        } else {
+            try {
+                page = Integer.parseInt(args[2]) - 1; // Convert to 0-based index
+            } catch (NumberFormatException e) {
+                player.sendMessage(MessageUtil.formatError("Invalid page number: &6" + args[2] + "&c!"));
+                return;
+            }
+        }
+        
+        if (!hologram.setPage(player, page)) {
+            player.sendMessage(MessageUtil.formatError("Invalid page! Hologram has &6" + count + " &cpage(s)."));
+            return;
+        }
+        player.sendMessage(MessageUtil.formatSuccess("Showing page &6" + (page + 1) + "&e/&6" + count + " &eof hologram &6" + name + "&e!"));
+    }
+    
+    private void handlePageInterval(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.edit")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to edit holograms!"));
+            return;
+        }
+        
+        if (args.length < 3) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo pageinterval <name> <ticks|off>"));
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = manager.getHologram(name);
+        
+        if (hologram == null) {
+            player.sendMessage(MessageUtil.formatError("Hologram &6" + name + " &cdoes not exist!"));
+            return;
+        }
+        
+        try {
+            int interval = args[2].equalsIgnoreCase("off") ? 0 : Integer.parseInt(args[2]);
+            
+            if (interval < 0) {
+                player.sendMessage(MessageUtil.formatError("Page interval cannot be negative!"));
+                return;
+            }
+            
+            hologram.setPageInterval(interval);
+            manager.saveHologram(name);
+            if (interval == 0) {
+                player.sendMessage(MessageUtil.formatSuccess("Disabled page cycling of hologram &6" + name + "&e!"));
+            } else {
+                player.sendMessage(MessageUtil.formatSuccess("Pages of hologram &6" + name + " &enow change every &6" + interval + " &eticks!"));
+            }
+        } catch (NumberFormatException e) {
+            player.sendMessage(MessageUtil.formatError("Invalid interval: &6" + args[2] + "&c!"));
+        }
+    }
+    
+    /**
+     * Get the hologram name of a "name:page" argument
+     */
+    private String getHologramName(String arg) {
+        int separator = arg.indexOf(':');
+        return separator >= 0 ? arg.substring(0, separator) : arg;
+    }
+    
+    /**
+     * Get the page of a "name:page" argument, the first page if none is given.
+     * Sends an error to the player if the page is invalid.
+     * 
+     * @return The 0-based page, or -1 if the page is invalid
+     */
+    private int getTargetPage(Player player, Hologram hologram, String arg) {
+        int separator = arg.indexOf(':');
+        if (separator < 0) {
+            return 0;
+        }
+        try {
+            int page = Integer.parseInt(arg.substring(separator + 1)) - 1; // Convert to 0-based index
+            if (page >= 0 && page < hologram.getPageCount()) {
+                return page;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        player.sendMessage(MessageUtil.formatError("Invalid page! Hologram has &6" + hologram.getPageCount() + " &cpage(s)."));
+        return -1;
+    }
+    
+    private void handleTemplate(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.edit")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to edit holograms!"));
+            return;
+        }
+        
+        TemplateManager templates = manager.getTemplateManager();
+        String action = args.length > 1 ? args[1].toLowerCase() : "";
+        switch (action) {
+            case "list": {
+                if (templates.getTemplates().isEmpty()) {
+                    player.sendMessage(MessageUtil.formatText("There are no templates created yet."));
+                    return;
+                }
+                player.sendMessage(MessageUtil.formatText("Templates &7(" + MessageUtil.VALUE + templates.getTemplates().size() + MessageUtil.TEXT + ")&7:"));
+                for (HologramTemplate template : templates.getTemplates()) {
+                    player.sendMessage(MessageUtil.formatText("  &6" + template.getName() + " &7- &6" +
+                            template.getLineCount() + " &7line(s), &6" + template.getInstanceCount() + " &7hologram(s)"));
+                }
+                return;
+            }
+            case "create": {
+                if (args.length < 4) {
+                    player.sendMessage(MessageUtil.formatError("Usage: /holo template create <template> <hologram>"));
+                    return;
+                }
+                if (!isValidHologramName(args[2])) {
+                    player.sendMessage(MessageUtil.formatError("Invalid template name! Use only letters, numbers, _ and -"));
+                    return;
+                }
+                Hologram source = manager.getHologram(args[3]);
+                if (source == null) {
+                    player.sendMessage(MessageUtil.formatError("Hologram &6" + args[3] + " &cdoes not exist!"));
+                    return;
+                }
+                if (templates.createTemplate(args[2], source.getLines()) == null) {
+                    player.sendMessage(MessageUtil.formatError("Template &6" + args[2] + " &calready exists!"));
+                    return;
+                }
+                player.sendMessage(MessageUtil.formatSuccess("Created template &6" + args[2] + " &efrom hologram &6" + source.getName() + "&e! Use it with &6/holo template apply <hologram> " + args[2]));
+                return;
+            }
+            case "delete": {
+                if (args.length < 3) {
+                    player.sendMessage(MessageUtil.formatError("Usage: /holo template delete <template>"));
+                    return;
+                }
+                if (!templates.deleteTemplate(args[2])) {
+                    player.sendMessage(MessageUtil.formatError("Template &6" + args[2] + " &cdoes not exist!"));
+                    return;
+                }
+                player.sendMessage(MessageUtil.formatSuccess("Deleted template &6" + args[2] + "&e! Its holograms keep their current lines."));
+                return;
+            }
+            case "apply":
+            case "detach": {
+                if (args.length < (action.equals("apply") ? 4 : 3)) {
+                    player.sendMessage(MessageUtil.formatError(action.equals("apply")
+                            ? "Usage: /holo template apply <hologram> <template>" : "Usage: /holo template detach <hologram>"));
+                    return;
+                }
+                Hologram hologram = manager.getHologram(args[2]);
+                if (hologram == null) {
+                    player.sendMessage(MessageUtil.formatError("Hologram &6" + args[2] + " &cdoes not exist!"));
+                    return;
+                }
+                if (action.equals("detach")) {
+                    if (hologram.getTemplate() == null) {
+                        player.sendMessage(MessageUtil.formatError("Hologram &6" + hologram.getName() + " &cdoes not use a template!"));
+                        return;
+                    }
+                    hologram.detachTemplate();
+                    manager.saveHologram(hologram.getName());
+                    player.sendMessage(MessageUtil.formatSuccess("Hologram &6" + hologram.getName() + " &enow has its own lines!"));
+                    return;
+                }
+                HologramTemplate template = templates.getTemplate(args[3]);
+                if (template == null) {
+                    player.sendMessage(MessageUtil.formatError("Template &6" + args[3] + " &cdoes not exist!"));
+                    return;
+                }
+                hologram.setTemplate(template, Collections.emptyMap());
+                manager.saveHologram(hologram.getName());
+                player.sendMessage(MessageUtil.formatSuccess("Hologram &6" + hologram.getName() + " &enow uses template &6" + template.getName() + "&e!"));
+                return;
+            }
+            case "addline":
+            case "setline":
+            case "removeline": {
+                int textStart = action.equals("addline") ? 3 : 4;
+                if (args.length < (action.equals("removeline") ? 4 : textStart + 1)) {
+                    player.sendMessage(MessageUtil.formatError(action.equals("addline") ? "Usage: /holo template addline <template> <text>"
+                            : action.equals("setline") ? "Usage: /holo template setline <template> <index> <text>"
+                            : "Usage: /holo template removeline <template> <index>"));
+                    return;
+                }
+                HologramTemplate template = templates.getTemplate(args[2]);
+                if (template == null) {
+                    player.sendMessage(MessageUtil.formatError("Template &6" + args[2] + " &cdoes not exist!"));
+                    return;
+                }
+                
+                StringBuilder text = new StringBuilder();
+                for (int i = textStart; i < args.length; i++) {
+                    if (i > textStart) text.append(" ");
+                    text.append(args[i]);
+                }
+                
+                if (action.equals("addline")) {
+                    template.addLine(text.toString());
+                } else {
+                    int index;
+                    try {
+                        index = Integer.parseInt(args[3]) - 1; // Convert to 0-based index
+                    } catch (NumberFormatException e) {
+                        player.sendMessage(MessageUtil.formatError("Invalid line number: &6" + args[3] + "&c!"));
+                        return;
+                    }
+                    if (index < 0 || index >= template.getLineCount()) {
+                        player.sendMessage(MessageUtil.formatError("Invalid line index! Template has &6" + template.getLineCount() + " &cline(s)."));
+                        return;
+                    }
+                    if (action.equals("setline")) {
+                        template.setLine(index, text.toString());
+                    } else {
+                        template.removeLine(index);
+                    }
+                }
+                player.sendMessage(MessageUtil.formatSuccess("Updated template &6" + template.getName() + " &eand &6" + template.getInstanceCount() + " &ehologram(s)!"));
+                return;
+            }
+            default:
+                player.sendMessage(MessageUtil.formatError("Usage: /holo template <list|create|delete|apply|detach|addline|setline|removeline>"));
+        }
+    }
+    
     private void handleUpdate(Player player, String[] args) {
         if (!player.hasPermission("pandoraholograms.edit")) {
             player.sendMessage(MessageUtil.formatError("You don't have permission to update holograms!"));
@@ -585,6 +1140,223 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(MessageUtil.formatSuccess("Updated hologram &6" + name + "&e!"));
     }
     
+    private void handleSetRange(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.edit")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to edit holograms!"));
+            return;
+        }
+        
+        if (args.length < 3) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo setrange <name> <blocks>"));
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = manager.getHologram(name);
+        
+        if (hologram == null) {
+            player.sendMessage(MessageUtil.formatError("Hologram &6" + name + " &cdoes not exist!"));
+            return;
+        }
+        
+        try {
+            double range = Double.parseDouble(args[2]);
+            
+            if (range <= 0) {
+                player.sendMessage(MessageUtil.formatError("Display range must be greater than 0!"));
+                return;
+            }
+            
+            hologram.setDisplayRange(range);
+            manager.saveHologram(name);
+            player.sendMessage(MessageUtil.formatSuccess("Set display range of hologram &6" + name + " &eto &6" + String.format("%.1f", range) + " &eblocks!"));
+        } catch (NumberFormatException e) {
+            player.sendMessage(MessageUtil.formatError("Invalid range: &6" + args[2] + "&c!"));
+        }
+    }
+    
+    private void handleStats(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.admin")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to view statistics!"));
+            return;
+        }
+        
+        HologramStats stats = plugin.getStats();
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            stats.reset();
+            player.sendMessage(MessageUtil.formatSuccess("Statistics have been reset!"));
+            return;
+        }
+        
+        int spawned = 0;
+        for (Hologram hologram : manager.getAllHolograms()) {
+            if (hologram.isSpawned()) {
+                spawned++;
+            }
+        }
+        DurationHistogram refresh = stats.getRefreshCycles();
+        DurationHistogram flushes = stats.getStorageFlushes();
+        long minutes = Math.max(1L, (System.currentTimeMillis() - stats.getSince()) / 60_000L);
+        
+        player.sendMessage(MessageUtil.colorize("&e&l━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
+        player.sendMessage(MessageUtil.colorize("&e&lHologram Statistics &7(last " + minutes + " min)"));
+        player.sendMessage(MessageUtil.colorize("&7"));
+        player.sendMessage(MessageUtil.formatText("&7Holograms: &6" + manager.getAllHolograms().size() + " &7(&6" + spawned + " &7spawned)"));
+        player.sendMessage(MessageUtil.formatText("&7Viewers: &6" + manager.getViewerCount()));
+        player.sendMessage(MessageUtil.formatText("&7Spawns / Despawns: &6" + stats.getSpawns() + " &7/ &6" + stats.getDespawns()));
+        player.sendMessage(MessageUtil.formatText("&7Refresh Ticks: &6" + refresh.getCount() + " &7(mean &6" + formatMillis(refresh.getMeanMillis())
+                + " &7p95 &6" + formatMillis(refresh.getPercentileMillis(95)) + " &7max &6" + formatMillis(refresh.getMaxMillis()) + "&7)"));
+        player.sendMessage(MessageUtil.formatText("&7Lines Refreshed: &6" + stats.getLinesRefreshed() + " &7(&6" + String.format("%.1f", stats.getAverageLinesPerCycle())
+                + " &7per tick, last &6" + stats.getLastCycleLines() + "&7)"));
+        player.sendMessage(MessageUtil.formatText("&7Placeholder Evaluations: &6" + stats.getPlaceholderEvaluations()));
+        GlobalPlaceholderCache global = stats.getGlobalPlaceholderCache();
+        if (global != null) {
+            player.sendMessage(MessageUtil.formatText("&7Global Placeholders: &6" + global.getHits() + " &7hits / &6" + global.getMisses() + " &7misses (&6"
+                    + String.format("%.1f", global.getHitRate() * 100) + "%&7, &6" + global.getDetectedGlobalCount() + " &7auto-detected)"));
+        }
+        player.sendMessage(MessageUtil.formatText("&7Storage Flushes: &6" + flushes.getCount() + " &7(mean &6" + formatMillis(flushes.getMeanMillis())
+                + " &7max &6" + formatMillis(flushes.getMaxMillis()) + "&7, " + plugin.getStorage().getName() + ")"));
+        player.sendMessage(MessageUtil.formatText("&7Line Cache: " + formatCache(stats.getTemplateCache())));
+        player.sendMessage(MessageUtil.formatText("&7Renderer: &6" + plugin.getRenderer().getName()));
+        player.sendMessage(MessageUtil.colorize("&e&l━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
+    }
+    
+    private String formatCache(TextCache<?> cache) {
+        return "&6" + cache.size() + "&7/&6" + cache.getMaxSize() + " &7(&6" + String.format("%.1f", cache.getHitRate() * 100) + "% &7hits)";
+    }
+    
+    private String formatMillis(double millis) {
+        return String.format("%.2fms", millis);
+    }
+    
+    private void handleConvert(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.admin")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to convert storage!"));
+            return;
+        }
+        
+        if (args.length < 3) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo convert <from> <to> &7(yaml, binary, sqlite, mysql)"));
+            return;
+        }
+        
+        String from = args[1].toLowerCase();
+        String to = args[2].toLowerCase();
+        if (!STORAGE_TYPES.contains(from) || !STORAGE_TYPES.contains(to)) {
+            player.sendMessage(MessageUtil.formatError("Storage type must be one of: &6" + String.join(", ", STORAGE_TYPES)));
+            return;
+        }
+        if (from.equals(to)) {
+            player.sendMessage(MessageUtil.formatError("Source and target storage must be different!"));
+            return;
+        }
+        
+        player.sendMessage(MessageUtil.formatText("Copying holograms from &6" + from + " &7to &6" + to + "&7..."));
+        manager.convertStorage(from, to).whenComplete((count, error) -> {
+            if (!player.isOnline()) {
+                return;
+            }
+            if (error != null) {
+                player.sendMessage(MessageUtil.formatError("Failed to convert storage: " + error.getMessage()));
+            } else {
+                player.sendMessage(MessageUtil.formatSuccess("Copied &6" + count + " &ehologram(s) to &6" + to + " &estorage!"));
+            }
+        });
+    }
+    
+    private void handleImport(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.admin")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to import holograms!"));
+            return;
+        }
+        
+        if (args.length < 2) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo import <file|decentholograms|holographicdisplays>"));
+            return;
+        }
+        
+        String source = args[1];
+        File plugins = plugin.getDataFolder().getParentFile();
+        File file = null;
+        if (!source.equalsIgnoreCase("decentholograms") && !source.equalsIgnoreCase("holographicdisplays")) {
+            file = getExportFile(source);
+            if (file == null) {
+                player.sendMessage(MessageUtil.formatError("File names cannot contain folders!"));
+                return;
+            }
+        }
+        File target = file;
+        
+        player.sendMessage(MessageUtil.formatText("Reading holograms from &6" + source + "&7..."));
+        // Parse off the main thread, only creating the holograms happens on it
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<HologramData> data;
+            try {
+                if (source.equalsIgnoreCase("decentholograms")) {
+                    data = HologramTransfer.readDecentHolograms(new File(plugins, "DecentHolograms/holograms"));
+                } else if (source.equalsIgnoreCase("holographicdisplays")) {
+                    data = HologramTransfer.readHolographicDisplays(new File(plugins, "HolographicDisplays/database.yml"));
+                } else {
+                    data = HologramTransfer.read(target);
+                }
+            } catch (IOException e) {
+                Bukkit.getScheduler().runTask(plugin, () -> player.sendMessage(MessageUtil.formatError("Failed to read holograms: " + e.getMessage())));
+                return;
+            }
+            
+            Bukkit.getScheduler().runTask(plugin, () -> manager.importHolograms(data).thenAccept(count -> {
+                if (player.isOnline()) {
+                    player.sendMessage(MessageUtil.formatSuccess("Imported &6" + count + " &eof &6" + data.size() + " &ehologram(s)! &7(existing names and missing worlds are skipped)"));
+                }
+            }));
+        });
+    }
+    
+    private void handleExport(Player player, String[] args) {
+        if (!player.hasPermission("pandoraholograms.admin")) {
+            player.sendMessage(MessageUtil.formatError("You don't have permission to export holograms!"));
+            return;
+        }
+        
+        if (args.length < 2) {
+            player.sendMessage(MessageUtil.formatError("Usage: /holo export <file|world>"));
+            return;
+        }
+        
+        // A world name exports only that world, to a file named after it
+        World world = Bukkit.getWorld(args[1]);
+        File file = getExportFile(world != null ? world.getName() : args[1]);
+        if (file == null) {
+            player.sendMessage(MessageUtil.formatError("File names cannot contain folders!"));
+            return;
+        }
+        
+        List<HologramData> data = manager.getHologramData(world);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                HologramTransfer.write(file, data);
+                Bukkit.getScheduler().runTask(plugin, () -> player.sendMessage(MessageUtil.formatSuccess("Exported &6" + data.size() + " &ehologram(s) to &6exports/" + file.getName() + "&e!")));
+            } catch (IOException e) {
+                Bukkit.getScheduler().runTask(plugin, () -> player.sendMessage(MessageUtil.formatError("Failed to export holograms: " + e.getMessage())));
+            }
+        });
+    }
+    
+    /**
+     * Resolve a file in the exports folder, .json is added when there is no extension
+     * 
+     * @return The file, or null if the name tries to leave the exports folder
+     */
+    private File getExportFile(String name) {
+        if (name.contains("/") || name.contains("\\") || name.contains("..")) {
+            return null;
+        }
+        if (!name.contains(".")) {
+            name += ".json";
+        }
+        return new File(new File(plugin.getDataFolder(), "exports"), name);
+    }
+    
     private void handleVersion(Player player, String[] args) {
         String version = plugin.getDescription().getVersion();
         player.sendMessage(MessageUtil.colorize("&e&lPandora Holograms &7v" + version));
@@ -598,21 +1370,33 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageUtil.colorize("&7"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo help &8- &7Show this help menu"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo create <name> [lines...] &8- &7Create a new hologram"));
-        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo addline <name> <text> &8- &7Add a line to a hologram"));
-        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo insertline <name> <index> <text> &8- &7Insert a line at position"));
-        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo setline <name> <index> <text> &8- &7Set a specific line"));
-        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo removeline <name> <index> &8- &7Remove a line"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo addline <name[:page]> <text> &8- &7Add a line to a hologram"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo insertline <name[:page]> <index> <text> &8- &7Insert a line at position"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo setline <name[:page]> <index> <text> &8- &7Set a specific line"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo removeline <name[:page]> <index> &8- &7Remove a line"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo addpage <name> <text> &8- &7Add a page to a hologram"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo removepage <name> <page> &8- &7Remove a page"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo page <name> <page|next|previous> &8- &7Switch the page you see"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo pageinterval <name> <ticks|off> &8- &7Cycle pages automatically"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo template <action> &8- &7Share lines between holograms with templates"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo movehere <name> &8- &7Move hologram to you"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo teleport <name> &8- &7Teleport to hologram"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo clone <source> <newName> &8- &7Clone a hologram"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo info <name> &8- &7Show hologram information"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo update <name> &8- &7Update hologram display"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo setrange <name> <blocks> &8- &7Set the display range"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo delete <name> &8- &7Delete a hologram"));
-        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo list &8- &7List all holograms"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo list [page] [filters...] &8- &7List holograms, filter by world:, radius:, name: or line:"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo search <text> [page] &8- &7Find holograms by line text"));
+        sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo near [radius] &8- &7List holograms near you"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo live &8- &7Open the visual editor"));
         sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo version &8- &7Show plugin version"));
         if (sender.hasPermission("pandoraholograms.admin")) {
             sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo reload &8- &7Reload the plugin"));
+            sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo stats [reset] &8- &7Show performance statistics"));
+            sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo convert <from> <to> &8- &7Copy holograms between storage types"));
+            sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo import <file|plugin> &8- &7Import holograms from a file or another plugin"));
+            sender.sendMessage(MessageUtil.formatText("  &e&l» &7/holo export <file|world> &8- &7Export holograms to a file"));
         }
         sender.sendMessage(MessageUtil.colorize("&7"));
         sender.sendMessage(MessageUtil.formatText("  &7Tip: Use quotes for multi-word text: &6\"Hello World\""));
@@ -624,9 +1408,13 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
         
         if (args.length == 1) {
-            List<String> commands = new ArrayList<>(Arrays.asList("help", "create", "addline", "setline", "removeline", "movehere", "delete", "list", "live"));
+            List<String> commands = new ArrayList<>(Arrays.asList("help", "create", "addline", "setline", "removeline", "addpage", "removepage", "page", "pageinterval", "template", "movehere", "setrange", "delete", "list", "search", "near", "live"));
             if (sender.hasPermission("pandoraholograms.admin")) {
                 commands.add("reload");
+                commands.add("stats");
+                commands.add("convert");
+                commands.add("import");
+                commands.add("export");
             }
             String input = args[0].toLowerCase();
             for (String cmd : commands) {
@@ -634,29 +1422,85 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                     completions.add(cmd);
                 }
             }
+        } else if (args[0].equalsIgnoreCase("template")) {
+            completeTemplate(args, completions);
         } else if (args.length == 2) {
             // Tab complete hologram names for commands that need them
             String subCommand = args[0].toLowerCase();
-            if (!subCommand.equals("create") && !subCommand.equals("help") && !subCommand.equals("version") && !subCommand.equals("live")) {
+            if (subCommand.equals("convert")) {
+                for (String type : STORAGE_TYPES) {
+                    if (type.startsWith(args[1].toLowerCase())) {
+                        completions.add(type);
+                    }
+                }
+            } else if (subCommand.equals("import")) {
+                List<String> sources = new ArrayList<>(Arrays.asList("decentholograms", "holographicdisplays"));
+                String[] files = new File(plugin.getDataFolder(), "exports").list();
+                if (files != null) {
+                    sources.addAll(Arrays.asList(files));
+                }
+                for (String source : sources) {
+                    if (source.toLowerCase().startsWith(args[1].toLowerCase())) {
+                        completions.add(source);
+                    }
+                }
+            } else if (subCommand.equals("export")) {
+                for (World world : Bukkit.getWorlds()) {
+                    if (world.getName().toLowerCase().startsWith(args[1].toLowerCase())) {
+                        completions.add(world.getName());
+                    }
+                }
+            } else if (subCommand.equals("list")) {
+                completeListFilters(args[1], completions);
+            } else if (subCommand.equals("stats")) {
+                if ("reset".startsWith(args[1].toLowerCase())) {
+                    completions.add("reset");
+                }
+            } else if (!subCommand.equals("create") && !subCommand.equals("help") && !subCommand.equals("version") && !subCommand.equals("live") && !subCommand.equals("search") && !subCommand.equals("near")) {
                 for (Hologram hologram : manager.getAllHolograms()) {
                     if (hologram.getName().toLowerCase().startsWith(args[1].toLowerCase())) {
                         completions.add(hologram.getName());
                     }
                 }
             }
+        } else if (args.length >= 3 && args[0].equalsIgnoreCase("list")) {
+            completeListFilters(args[args.length - 1], completions);
         } else if (args.length == 3) {
             // Tab complete for commands that need a second argument
             String subCommand = args[0].toLowerCase();
-            if (subCommand.equals("clone")) {
+            if (subCommand.equals("convert")) {
+                for (String type : STORAGE_TYPES) {
+                    if (type.startsWith(args[2].toLowerCase())) {
+                        completions.add(type);
+                    }
+                }
+            } else if (subCommand.equals("clone")) {
                 // Second arg is source hologram name
                 for (Hologram hologram : manager.getAllHolograms()) {
                     if (hologram.getName().toLowerCase().startsWith(args[1].toLowerCase())) {
                         completions.add(hologram.getName());
                     }
                 }
+            } else if (subCommand.equals("page") || subCommand.equals("removepage")) {
+                Hologram hologram = manager.getHologram(args[1]);
+                if (hologram != null) {
+                    List<String> options = new ArrayList<>();
+                    if (subCommand.equals("page")) {
+                        options.add("next");
+                        options.add("previous");
+                    }
+                    for (int i = 1; i <= hologram.getPageCount(); i++) {
+                        options.add(String.valueOf(i));
+                    }
+                    for (String option : options) {
+                        if (option.startsWith(args[2].toLowerCase())) {
+                            completions.add(option);
+                        }
+                    }
+                }
             } else if (subCommand.equals("setline") || subCommand.equals("removeline") || subCommand.equals("insertline")) {
                 // Second arg is line number
-                Hologram hologram = manager.getHologram(args[1]);
+                Hologram hologram = manager.getHologram(getHologramName(args[1]));
                 if (hologram != null) {
                     int lineCount = hologram.getLineCount();
                     for (int i = 1; i <= lineCount; i++) {
@@ -672,6 +1516,49 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         return completions;
     }
     
+    private void completeTemplate(String[] args, List<String> completions) {
+        List<String> options = new ArrayList<>();
+        String action = args[1].toLowerCase();
+        if (args.length == 2) {
+            options.addAll(TEMPLATE_ACTIONS);
+        } else if (args.length == 3 && (action.equals("apply") || action.equals("detach"))
+                || args.length == 4 && action.equals("create")) {
+            for (Hologram hologram : manager.getAllHolograms()) {
+                options.add(hologram.getName());
+            }
+        } else if (args.length == 3 && !action.equals("create") && !action.equals("list")
+                || args.length == 4 && action.equals("apply")) {
+            for (HologramTemplate template : manager.getTemplateManager().getTemplates()) {
+                options.add(template.getName());
+            }
+        }
+        
+        String input = args[args.length - 1].toLowerCase();
+        for (String option : options) {
+            if (option.toLowerCase().startsWith(input)) {
+                completions.add(option);
+            }
+        }
+    }
+    
+    private void completeListFilters(String input, List<String> completions) {
+        String lower = input.toLowerCase();
+        if (lower.startsWith("world:")) {
+            for (World world : Bukkit.getWorlds()) {
+                String option = "world:" + world.getName();
+                if (option.toLowerCase().startsWith(lower)) {
+                    completions.add(option);
+                }
+            }
+            return;
+        }
+        for (String filter : LIST_FILTERS) {
+            if (filter.startsWith(lower)) {
+                completions.add(filter);
+            }
+        }
+    }
+    
     private boolean isValidHologramName(String name) {
         if (name == null || name.isEmpty() || name.length() > 32) {
             return false;
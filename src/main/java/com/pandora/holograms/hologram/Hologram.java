@@ -1,36 +1,63 @@
 package com.pandora.holograms.hologram;
 
 import com.pandora.holograms.PandoraHologramsPlugin;
-import com.pandora.holograms.util.PlaceholderUtil;
+import com.pandora.holograms.animation.AnimationClock;
+import com.pandora.holograms.manager.HologramManager;
+import com.pandora.holograms.refresh.PageCycler;
+import com.pandora.holograms.refresh.RefreshScheduler;
+import com.pandora.holograms.render.HologramDisplay;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
-import org.bukkit.util.EulerAngle;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
  * Represents a hologram with multiple lines of text.
- * Holograms are displayed using invisible armor stands.
+ * Rendering is delegated to a {@link HologramDisplay} from the active renderer.
+ * A hologram can have several pages. The line methods without a page work on the first page,
+ * and every viewer sees one page at a time. With the packet renderer each player has their own
+ * page, the entity renderers show the same page to everyone.
+ * The first page can come from a {@link HologramTemplate}. Its lines are then shared with the
+ * template and only the lines set on this hologram are kept here, as overrides.
  * 
  * @author Blacnova Development
  * @version 1.0.0
  */
-public class Hologram {
+public class Hologram implements LineHolder {
+    
+    /**
+     * Fills the slots of pages that are shorter than the longest page
+     */
+    private static final HologramLine BLANK_LINE = new HologramLine("");
     
     private final String name;
     private Location location;
-    private final List<String> lines;
-    private final List<ArmorStand> armorStands;
+    private final List<HologramLine> lines;
+    private final List<List<HologramLine>> pages;
+    private final Map<UUID, Integer> viewerPages;
+    private int sharedPage;
+    private int pageInterval;
+    private HologramTemplate template;
+    private final Map<Integer, String> overrides;
+    private HologramDisplay display;
     private final Set<UUID> viewers;
     private boolean spawned;
     private String permission;
     private double lineHeight;
+    private double displayRange;
+    private HologramLine resolvedLine;
+    private Map<UUID, String> resolvedText;
     
     public Hologram(String name, Location location) {
         this.name = name;
@@ -38,11 +65,15 @@ public class Hologram {
         this.location.setPitch(0.0f);
         this.location.setYaw(0.0f);
         this.lines = new ArrayList<>();
-        this.armorStands = new ArrayList<>();
+        this.pages = new ArrayList<>();
+        this.pages.add(this.lines);
+        this.viewerPages = new HashMap<>();
+        this.overrides = new TreeMap<>();
         this.viewers = new HashSet<>();
         this.spawned = false;
         this.permission = null;
         this.lineHeight = PandoraHologramsPlugin.getInstance().getConfig().getDouble("default-line-height", 0.3);
+        this.displayRange = PandoraHologramsPlugin.getInstance().getConfig().getDouble("default-display-range", 48.0);
     }
     
     public Hologram(String name, Location location, List<String> lines) {
@@ -50,12 +81,19 @@ public class Hologram {
         this.location = location.clone();
         this.location.setPitch(0.0f);
         this.location.setYaw(0.0f);
-        this.lines = new ArrayList<>(lines);
-        this.armorStands = new ArrayList<>();
+        this.lines = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            this.lines.add(new HologramLine(line));
+        }
+        this.pages = new ArrayList<>();
+        this.pages.add(this.lines);
+        this.viewerPages = new HashMap<>();
+        this.overrides = new TreeMap<>();
         this.viewers = new HashSet<>();
         this.spawned = false;
         this.permission = null;
         this.lineHeight = PandoraHologramsPlugin.getInstance().getConfig().getDouble("default-line-height", 0.3);
+        this.displayRange = PandoraHologramsPlugin.getInstance().getConfig().getDouble("default-display-range", 48.0);
     }
     
     public String getName() {
@@ -70,52 +108,395 @@ public class Hologram {
         if (location == null || location.getWorld() == null) {
             return;
         }
+        Location oldLocation = this.location;
+        boolean sameWorld = location.getWorld() == oldLocation.getWorld();
         this.location = location.clone();
         this.location.setPitch(0.0f);
         this.location.setYaw(0.0f);
         if (spawned) {
-            respawn();
+            if (sameWorld) {
+                display.relayout();
+            } else {
+                respawn();
+            }
+        }
+        
+        HologramManager manager = PandoraHologramsPlugin.getInstance().getHologramManager();
+        if (manager != null) {
+            manager.relocate(this, oldLocation);
         }
     }
     
     public List<String> getLines() {
-        return new ArrayList<>(lines);
+        return getPageLines(0);
     }
     
     public void addLine(String text) {
-        lines.add(text);
+        addLine(0, text);
+    }
+    
+    public void setLine(int index, String text) {
+        setLine(0, index, text);
+    }
+    
+    public void removeLine(int index) {
+        removeLine(0, index);
+    }
+    
+    public void insertLine(int index, String text) {
+        insertLine(0, index, text);
+    }
+    
+    /**
+     * Add a line to the bottom of a page
+     * 
+     * @param page The page index
+     * @param text The line text
+     */
+    public void addLine(int page, String text) {
+        if (page < 0 || page >= pages.size()) {
+            return;
+        }
+        insertLine(page, pages.get(page).size(), text);
+    }
+    
+    public void setLine(int page, int index, String text) {
+        if (page < 0 || page >= pages.size() || index < 0 || index >= pages.get(page).size()) {
+            return;
+        }
+        HologramLine line;
+        if (page == 0 && template != null) {
+            // Copy-on-write: only the changed line is kept apart from the template
+            HologramLine shared = template.getLine(index);
+            if (shared.getRaw().equals(text)) {
+                overrides.remove(index);
+                line = shared;
+            } else {
+                overrides.put(index, text);
+                line = new HologramLine(text);
+            }
+        } else {
+            line = new HologramLine(text);
+        }
+        pages.get(page).set(index, line);
         if (spawned) {
-            respawn();
+            display.updateLine(index);
+            scheduleRefresh(line);
         }
     }
     
-    public void setLine(int index, String text) {
-        if (index < 0 || index >= lines.size()) {
+    public void removeLine(int page, int index) {
+        if (page < 0 || page >= pages.size() || index < 0 || index >= pages.get(page).size()) {
             return;
         }
-        lines.set(index, text);
+        if (page == 0) {
+            detachTemplate();
+        }
+        pages.get(page).remove(index);
         if (spawned) {
-            respawn();
+            if (getLineCount() == 0) {
+                despawn();
+            } else if (pages.size() == 1) {
+                display.removeLine(index);
+            } else {
+                syncSlots();
+            }
         }
     }
     
-    public void removeLine(int index) {
-        if (index < 0 || index >= lines.size()) {
+    public void insertLine(int page, int index, String text) {
+        if (page < 0 || page >= pages.size() || index < 0 || index > pages.get(page).size()) {
             return;
         }
-        lines.remove(index);
+        if (page == 0) {
+            detachTemplate();
+        }
+        HologramLine line = new HologramLine(text);
+        pages.get(page).add(index, line);
         if (spawned) {
-            respawn();
+            if (pages.size() == 1) {
+                display.insertLine(index);
+            } else {
+                syncSlots();
+            }
+            scheduleRefresh(line);
         }
     }
     
-    public void insertLine(int index, String text) {
-        if (index < 0 || index > lines.size()) {
+    /**
+     * Get the raw lines of a page
+     * 
+     * @param page The page index, 0 is the first page
+     * @return A copy of the lines, or an empty list if the page does not exist
+     */
+    public List<String> getPageLines(int page) {
+        if (page < 0 || page >= pages.size()) {
+            return new ArrayList<>();
+        }
+        List<HologramLine> pageLines = pages.get(page);
+        List<String> raw = new ArrayList<>(pageLines.size());
+        for (HologramLine line : pageLines) {
+            raw.add(line.getRaw());
+        }
+        return raw;
+    }
+    
+    public int getPageCount() {
+        return pages.size();
+    }
+    
+    /**
+     * Add a page after the last one
+     * 
+     * @param pageLines The lines of the new page
+     * @return The index of the new page
+     */
+    public int addPage(List<String> pageLines) {
+        List<HologramLine> page = new ArrayList<>(pageLines.size());
+        for (String text : pageLines) {
+            page.add(new HologramLine(text));
+        }
+        pages.add(page);
+        if (spawned) {
+            syncSlots();
+            for (HologramLine line : page) {
+                scheduleRefresh(line);
+            }
+            subscribeCycler();
+        }
+        return pages.size() - 1;
+    }
+    
+    /**
+     * Remove a page. The last remaining page cannot be removed.
+     * Viewers on a later page stay on the same content.
+     * 
+     * @param page The page index
+     * @return True if the page was removed
+     */
+    public boolean removePage(int page) {
+        if (page < 0 || page >= pages.size() || pages.size() == 1) {
+            return false;
+        }
+        if (page == 0) {
+            // The first page is always the lines list, so the second page moves into it
+            detachTemplate();
+            lines.clear();
+            lines.addAll(pages.remove(1));
+        } else {
+            pages.remove(page);
+        }
+        viewerPages.replaceAll((uuid, current) -> current > page ? current - 1 : current);
+        if (sharedPage > page) {
+            sharedPage--;
+        }
+        
+        if (spawned) {
+            if (getLineCount() == 0) {
+                despawn();
+            } else {
+                syncSlots();
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get the page a player currently sees
+     * 
+     * @param player The player, or null for the shared page
+     * @return The page index
+     */
+    public int getPage(Player player) {
+        Integer page = player != null ? viewerPages.get(player.getUniqueId()) : null;
+        return Math.min(page != null ? page : sharedPage, pages.size() - 1);
+    }
+    
+    /**
+     * Switch a player to another page. Only the lines that differ from the previous page are sent.
+     * Renderers that share their entities between players switch the page for everyone.
+     * 
+     * @param player The player
+     * @param page The page index
+     * @return True if the page exists
+     */
+    public boolean setPage(Player player, int page) {
+        if (page < 0 || page >= pages.size()) {
+            return false;
+        }
+        if (PandoraHologramsPlugin.getInstance().getRenderer().isPerPlayer()) {
+            viewerPages.put(player.getUniqueId(), page);
+            if (spawned && isVisibleTo(player)) {
+                display.update(player);
+            }
+        } else {
+            sharedPage = page;
+            if (spawned) {
+                display.update(null);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Move every viewer one page forward, wrapping around after the last page
+     */
+    public void nextPage() {
+        int count = pages.size();
+        if (count < 2) {
             return;
         }
-        lines.add(index, text);
+        sharedPage = (Math.min(sharedPage, count - 1) + 1) % count;
+        viewerPages.replaceAll((uuid, page) -> (Math.min(page, count - 1) + 1) % count);
+        if (spawned) {
+            display.update(null);
+        }
+    }
+    
+    /**
+     * Get the auto-cycle interval of the pages
+     * 
+     * @return The interval in ticks, or 0 if pages only change by command
+     */
+    public int getPageInterval() {
+        return pageInterval;
+    }
+    
+    public void setPageInterval(int pageInterval) {
+        this.pageInterval = Math.max(0, pageInterval);
         if (spawned) {
-            respawn();
+            subscribeCycler();
+        }
+    }
+    
+    /**
+     * Get the template the first page comes from
+     * 
+     * @return The template, or null if this hologram has its own lines
+     */
+    public HologramTemplate getTemplate() {
+        return template;
+    }
+    
+    /**
+     * Get the lines of the first page that differ from the template
+     * 
+     * @return The override text by line index
+     */
+    public Map<Integer, String> getOverrides() {
+        return Collections.unmodifiableMap(new TreeMap<>(overrides));
+    }
+    
+    /**
+     * Make the first page an instance of a template
+     * 
+     * @param template The template to use
+     * @param overrides Lines that differ from the template, by index
+     */
+    public void setTemplate(HologramTemplate template, Map<Integer, String> overrides) {
+        if (this.template != null) {
+            this.template.removeInstance(this);
+        }
+        this.template = template;
+        this.overrides.clear();
+        this.overrides.putAll(overrides);
+        template.addInstance(this);
+        syncTemplate(null);
+    }
+    
+    /**
+     * Stop using the template and keep a copy of the current lines instead.
+     * Structural changes to the first page, such as adding or removing lines, detach automatically.
+     */
+    public void detachTemplate() {
+        if (template == null) {
+            return;
+        }
+        HologramTemplate previous = template;
+        template = null;
+        overrides.clear();
+        previous.removeInstance(this);
+        
+        // Shared lines are refreshed through the template, so this hologram gets its own copies
+        for (int i = 0; i < lines.size(); i++) {
+            HologramLine line = lines.get(i);
+            if (previous.getLineIndex(line) >= 0) {
+                line = new HologramLine(line.getRaw());
+                lines.set(i, line);
+                if (spawned) {
+                    scheduleRefresh(line);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Rebuild the first page from the template after it was edited. Lines that still match
+     * are left alone, the others are re-rendered.
+     * 
+     * @param remap The new index of every old template line, -1 if removed, or null if lines did not move
+     */
+    void syncTemplate(int[] remap) {
+        if (remap != null && !overrides.isEmpty()) {
+            Map<Integer, String> moved = new TreeMap<>();
+            for (Map.Entry<Integer, String> override : overrides.entrySet()) {
+                int index = override.getKey() < remap.length ? remap[override.getKey()] : -1;
+                if (index >= 0) {
+                    moved.put(index, override.getValue());
+                }
+            }
+            overrides.clear();
+            overrides.putAll(moved);
+        }
+        int count = template.getLineCount();
+        overrides.keySet().removeIf(index -> index >= count);
+        
+        List<HologramLine> updated = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String override = overrides.get(i);
+            if (override == null) {
+                updated.add(template.getLine(i));
+            } else if (i < lines.size() && lines.get(i).getRaw().equals(override)) {
+                updated.add(lines.get(i));
+            } else {
+                updated.add(new HologramLine(override));
+            }
+        }
+        
+        BitSet changed = new BitSet();
+        for (int i = 0; i < Math.max(lines.size(), updated.size()); i++) {
+            if (i >= lines.size() || i >= updated.size() || lines.get(i) != updated.get(i)) {
+                changed.set(i);
+            }
+        }
+        lines.clear();
+        lines.addAll(updated);
+        
+        if (spawned && !changed.isEmpty()) {
+            if (getLineCount() == 0) {
+                despawn();
+            } else {
+                display.sync(changed);
+                for (int i = changed.nextSetBit(0); i >= 0 && i < lines.size(); i = changed.nextSetBit(i + 1)) {
+                    scheduleRefresh(lines.get(i));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Re-render every slot after the slot count or the page layout changed
+     */
+    private void syncSlots() {
+        BitSet all = new BitSet();
+        all.set(0, getLineCount());
+        display.sync(all);
+    }
+    
+    private void subscribeCycler() {
+        PageCycler cycler = PandoraHologramsPlugin.getInstance().getPageCycler();
+        if (cycler != null && pages.size() > 1) {
+            cycler.subscribe(this);
         }
     }
     
@@ -129,71 +510,32 @@ public class Hologram {
             return;
         }
         
-        Location loc = location.clone();
-        // CRITICAL: Set pitch and yaw to 0 to prevent upside-down holograms
-        loc.setPitch(0.0f);
-        loc.setYaw(0.0f);
-        
-        if (lines.isEmpty()) {
+        if (getLineCount() == 0) {
             PandoraHologramsPlugin.getInstance().getLogger().warning("Cannot spawn hologram '" + name + "' - no lines defined!");
             return;
         }
         
-        // Location is where the BOTTOM line appears
-        // First line in list (index 0) should appear at TOP
-        // Last line in list (index N) should appear at BOTTOM (base location)
-        // We calculate positions for all lines, placing them correctly
+        PandoraHologramsPlugin plugin = PandoraHologramsPlugin.getInstance();
+        display = plugin.getRenderer().createDisplay(this);
+        display.spawn();
+        spawned = true;
+        plugin.getStats().recordSpawn();
+        if (template != null) {
+            template.instanceSpawned(this);
+        }
         
-        // Iterate forward through lines, but place them from top to bottom
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i);
-            // Preserve empty lines - if null or empty, use a single space for visibility
-            if (line == null) {
-                line = " ";
-            } else if (line.trim().isEmpty()) {
-                // Empty string or whitespace - use space for proper spacing
-                line = " ";
+        for (List<HologramLine> page : pages) {
+            for (HologramLine line : page) {
+                scheduleRefresh(line);
             }
-            
-            // Calculate position: first line (i=0) goes at top, last line goes at bottom
-            // Line 0 should be at: base + (total lines - 1) * height
-            // Line N should be at: base
-            double yOffset = (lines.size() - 1 - i) * this.lineHeight;
-            Location lineLoc = loc.clone().add(0, yOffset, 0);
-            // Ensure pitch and yaw are 0 for each line location
-            lineLoc.setPitch(0.0f);
-            lineLoc.setYaw(0.0f);
-            
-            ArmorStand stand = (ArmorStand) lineLoc.getWorld().spawnEntity(lineLoc, EntityType.ARMOR_STAND);
-            
-            // Set all armor stand properties BEFORE making it invisible
-            stand.setGravity(false);
-            stand.setMarker(true);
-            stand.setSmall(true);
-            stand.setInvulnerable(true);
-            stand.setCanPickupItems(false);
-            stand.setCollidable(false);
-            stand.setBasePlate(false);
-            stand.setArms(false);
-            // CRITICAL: Set head pose to prevent rotation issues
-            stand.setHeadPose(new EulerAngle(0, 0, 0));
-            stand.setBodyPose(new EulerAngle(0, 0, 0));
-            stand.setLeftArmPose(new EulerAngle(0, 0, 0));
-            stand.setRightArmPose(new EulerAngle(0, 0, 0));
-            stand.setLeftLegPose(new EulerAngle(0, 0, 0));
-            stand.setRightLegPose(new EulerAngle(0, 0, 0));
-            
-            // Set visibility and name AFTER all properties
-            stand.setVisible(false);
-            stand.setCustomNameVisible(true);
-            // Parse color codes and placeholders
-            String displayText = parseText(line, null);
-            stand.setCustomName(displayText);
-            
-            armorStands.add(stand);
         }
+        subscribeCycler();
         
-        spawned = true;
+        // Show to the players in range
+        HologramManager manager = plugin.getHologramManager();
+        if (manager != null) {
+            manager.getViewTracker().refresh(this);
+        }
     }
     
     public void spawn() {
@@ -205,39 +547,96 @@ public class Hologram {
             return;
         }
         
-        for (ArmorStand stand : armorStands) {
-            if (stand != null && !stand.isDead()) {
-                stand.remove();
+        display.despawn();
+        display = null;
+        if (template != null) {
+            for (UUID uuid : viewers) {
+                template.viewerRemoved(uuid);
             }
+            template.instanceDespawned(this);
         }
-        armorStands.clear();
+        viewers.clear();
+        viewerPages.clear();
         spawned = false;
+        PandoraHologramsPlugin.getInstance().getStats().recordDespawn();
     }
     
+    /**
+     * Spawn the hologram again. It stays despawned if its chunk is not loaded,
+     * and spawns once the chunk loads.
+     */
     public void respawn() {
         despawn();
-        spawn();
+        if (HologramManager.isChunkLoaded(location)) {
+            spawn();
+        }
     }
     
+    @Override
     public boolean isSpawned() {
         return spawned;
     }
     
     public void show(Player player) {
-        if (player == null) return;
-        viewers.add(player.getUniqueId());
+        if (player == null || !hasPermission(player)) return;
+        // Holograms only spawn with their chunk, the view tracker shows them once they do
         if (!spawned) {
-            spawn();
+            return;
+        }
+        if (viewers.add(player.getUniqueId())) {
+            if (template != null) {
+                template.viewerAdded(player.getUniqueId());
+            }
+            display.show(player);
         }
-        // Armor stands are visible to all players by default
-        // Future: Could implement packet-based per-player visibility
     }
     
     public void hide(Player player) {
         if (player == null) return;
-        viewers.remove(player.getUniqueId());
-        // Armor stands are visible to all players by default
-        // Future: Could implement packet-based per-player visibility
+        if (removeViewer(player.getUniqueId()) && spawned) {
+            display.hide(player);
+        }
+    }
+    
+    /**
+     * Forget a viewer by UUID, e.g. one that went offline without a quit event reaching the tracker.
+     * The entities are only hidden if the player is still online.
+     * 
+     * @param uuid The UUID of the viewer
+     */
+    public void hide(UUID uuid) {
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null) {
+            hide(player);
+        } else {
+            removeViewer(uuid);
+        }
+    }
+    
+    /**
+     * Drop a viewer and their page
+     * 
+     * @return Whether the UUID was a viewer
+     */
+    private boolean removeViewer(UUID uuid) {
+        viewerPages.remove(uuid);
+        if (!viewers.remove(uuid)) {
+            return false;
+        }
+        if (template != null) {
+            template.viewerRemoved(uuid);
+        }
+        return true;
+    }
+    
+    /**
+     * Get the players this hologram is currently shown to
+     * 
+     * @return An unmodifiable view of the viewer UUIDs
+     */
+    @Override
+    public Set<UUID> getViewers() {
+        return Collections.unmodifiableSet(viewers);
     }
     
     public boolean isVisibleTo(Player player) {
@@ -249,14 +648,28 @@ public class Hologram {
     }
     
     public void setPermission(String permission) {
+        boolean changed = !Objects.equals(permission, this.permission);
         this.permission = permission;
+        
+        HologramManager manager = PandoraHologramsPlugin.getInstance().getHologramManager();
+        if (changed && spawned && manager != null) {
+            manager.getViewTracker().refresh(this);
+        }
     }
     
+    /**
+     * Check if a player may see this hologram. Results are cached per player
+     * until they join, change world or their permissions change.
+     * 
+     * @param player The player to check
+     * @return True if the hologram has no permission or the player has it
+     */
     public boolean hasPermission(Player player) {
         if (permission == null || permission.isEmpty()) {
             return true;
         }
-        return player.hasPermission(permission);
+        HologramManager manager = PandoraHologramsPlugin.getInstance().getHologramManager();
+        return manager != null ? manager.getPermissionCache().hasPermission(player, permission) : player.hasPermission(permission);
     }
     
     public double getLineHeight() {
@@ -266,61 +679,269 @@ public class Hologram {
     public void setLineHeight(double lineHeight) {
         this.lineHeight = lineHeight;
         if (spawned) {
-            respawn();
+            display.relayout();
         }
     }
     
+    public double getDisplayRange() {
+        return displayRange;
+    }
+    
+    public void setDisplayRange(double displayRange) {
+        this.displayRange = displayRange;
+        HologramManager manager = PandoraHologramsPlugin.getInstance().getHologramManager();
+        if (spawned && manager != null) {
+            manager.getViewTracker().refresh(this);
+        }
+    }
+    
+    /**
+     * Check if a location is within the display range of this hologram
+     * 
+     * @param other The location to check
+     * @return True if the location is in the same world and within range
+     */
+    public boolean isInRange(Location other) {
+        if (other == null || other.getWorld() != location.getWorld()) {
+            return false;
+        }
+        double dx = other.getX() - location.getX();
+        double dy = other.getY() - location.getY();
+        double dz = other.getZ() - location.getZ();
+        return dx * dx + dy * dy + dz * dz <= displayRange * displayRange;
+    }
+    
     public void updateLines() {
         updateLines(null);
     }
     
     public void updateLines(Player player) {
-        if (!spawned || armorStands.size() != lines.size()) {
-            respawn();
+        if (!spawned) {
+            // Never load a chunk just to update a hologram nobody can see
+            if (HologramManager.isChunkLoaded(location)) {
+                spawn();
+            }
             return;
         }
         
-        for (int i = 0; i < lines.size() && i < armorStands.size(); i++) {
-            ArmorStand stand = armorStands.get(i);
-            if (stand != null && !stand.isDead()) {
-                String line = lines.get(i);
-                if (line == null || line.trim().isEmpty()) {
-                    line = " ";
+        display.update(player);
+    }
+    
+    /**
+     * Re-render a single line for its viewers
+     * 
+     * @param index The line index
+     */
+    public void refreshLine(int index) {
+        if (spawned) {
+            display.updateLine(index);
+        }
+    }
+    
+    @Override
+    public void refreshLine(HologramLine line) {
+        int index = getLineIndex(line);
+        if (index >= 0) {
+            refreshLine(index);
+        }
+    }
+    
+    /**
+     * Re-render a single line with text whose placeholders were already resolved off the main thread.
+     * Viewers missing from the resolved text, or looking at another page, are rendered as usual.
+     * 
+     * @param line The line that was resolved
+     * @param resolved The rendered text by viewer
+     */
+    @Override
+    public void refreshLine(HologramLine line, Map<UUID, String> resolved) {
+        refreshLine(getLineIndex(line), line, resolved);
+    }
+    
+    /**
+     * Re-render a line whose index is already known, like a template line that sits
+     * at the same index on every instance
+     */
+    void refreshLine(int index, HologramLine line, Map<UUID, String> resolved) {
+        if (!spawned || index < 0) {
+            return;
+        }
+        resolvedLine = line;
+        resolvedText = resolved;
+        try {
+            display.updateLine(index);
+        } finally {
+            resolvedLine = null;
+            resolvedText = null;
+        }
+    }
+    
+    /**
+     * Check if a template line is shown on the first page at its template index, not replaced by an override
+     */
+    boolean showsTemplateLine(int index, HologramLine line) {
+        return index < lines.size() && lines.get(index) == line;
+    }
+    
+    /**
+     * Get the current index of a line within its page
+     * 
+     * @param line The line to look up
+     * @return The index, or -1 if the line is no longer part of this hologram
+     */
+    @Override
+    public int getLineIndex(HologramLine line) {
+        for (List<HologramLine> page : pages) {
+            for (int i = 0; i < page.size(); i++) {
+                if (page.get(i) == line) {
+                    return i;
                 }
-                String displayText = parseText(line, player);
-                stand.setCustomName(displayText);
             }
         }
+        return -1;
+    }
+    
+    private void scheduleRefresh(HologramLine line) {
+        PandoraHologramsPlugin plugin = PandoraHologramsPlugin.getInstance();
+        // Shared lines are refreshed once through the template for all instances
+        LineHolder holder = template != null && template.getLineIndex(line) >= 0 ? template : this;
+        RefreshScheduler scheduler = plugin.getRefreshScheduler();
+        if (scheduler != null) {
+            scheduler.schedule(holder, line);
+        }
+        AnimationClock clock = plugin.getAnimationClock();
+        if (clock != null && line.getTemplate().hasAnimations()) {
+            clock.subscribe(holder, line);
+        }
     }
     
     /**
-     * Parse text with color codes and placeholders
+     * Get the location of a line. Line 0 is the top line,
+     * the last line sits at the base location.
+     * 
+     * @param index The line index
+     * @return The location of the line
      */
-    private String parseText(String text, Player player) {
-        if (text == null) {
-            return " ";
+    public Location getLineLocation(int index) {
+        double yOffset = (getLineCount() - 1 - index) * this.lineHeight;
+        Location lineLoc = location.clone().add(0, yOffset, 0);
+        // Ensure pitch and yaw are 0 to prevent upside-down holograms
+        lineLoc.setPitch(0.0f);
+        lineLoc.setYaw(0.0f);
+        return lineLoc;
+    }
+    
+    /**
+     * Get the display text of a line with color codes and placeholders applied.
+     * The line is taken from the page the player currently sees.
+     * 
+     * @param index The line index
+     * @param player The player to parse placeholders for, or null
+     * @return The text to display
+     */
+    public String renderLine(int index, Player player) {
+        List<HologramLine> page = pages.get(getPage(player));
+        HologramLine line = index < page.size() ? page.get(index) : BLANK_LINE;
+        if (line == resolvedLine && player != null) {
+            String resolved = resolvedText.get(player.getUniqueId());
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+        return line.getTemplate().render(player);
+    }
+    
+    /**
+     * Start a batch of changes that are rendered and saved together on commit
+     * 
+     * @return An editor for this hologram
+     */
+    public HologramEditor edit() {
+        return new HologramEditor(this);
+    }
+    
+    /**
+     * Apply a committed edit to the first page. Lines are compared by position, unchanged lines
+     * keep their state and only the changed ones are re-rendered.
+     */
+    void applyEdit(List<String> newLines, double newLineHeight, double newDisplayRange, String newPermission) {
+        if (newLines.size() != lines.size()) {
+            detachTemplate();
         }
         
-        // Replace color codes
-        text = text.replace('&', '§');
+        BitSet changed = new BitSet();
+        List<HologramLine> updated = new ArrayList<>(newLines.size());
+        for (int i = 0; i < newLines.size(); i++) {
+            String raw = newLines.get(i);
+            HologramLine shared = template != null ? template.getLine(i) : null;
+            if (shared != null && shared.getRaw().equals(raw)) {
+                overrides.remove(i);
+                updated.add(shared);
+                if (lines.get(i) != shared) {
+                    changed.set(i);
+                }
+                continue;
+            }
+            if (shared != null) {
+                overrides.put(i, raw);
+            }
+            if (i < lines.size() && lines.get(i).getRaw().equals(raw)) {
+                updated.add(lines.get(i));
+            } else {
+                updated.add(new HologramLine(raw));
+                changed.set(i);
+            }
+        }
         
-        // Parse PlaceholderAPI placeholders if player is provided
-        if (player != null && PlaceholderUtil.containsPlaceholders(text)) {
-            text = PlaceholderUtil.parsePlaceholders(text, player);
+        int oldCount = getLineCount();
+        if (updated.size() != lines.size()) {
+            // Slots the first page gained or lost now show a line or a blank
+            changed.set(Math.min(updated.size(), lines.size()), Math.max(updated.size(), lines.size()));
+        }
+        boolean visibilityChanged = newDisplayRange != displayRange || !Objects.equals(newPermission, permission);
+        lines.clear();
+        lines.addAll(updated);
+        boolean moved = getLineCount() != oldCount || newLineHeight != lineHeight;
+        this.lineHeight = newLineHeight;
+        this.displayRange = newDisplayRange;
+        this.permission = newPermission;
+        
+        HologramManager manager = PandoraHologramsPlugin.getInstance().getHologramManager();
+        if (spawned) {
+            if (getLineCount() == 0) {
+                despawn();
+            } else if (!changed.isEmpty() || moved) {
+                display.sync(changed);
+                for (int i = changed.nextSetBit(0); i >= 0 && i < lines.size(); i = changed.nextSetBit(i + 1)) {
+                    scheduleRefresh(lines.get(i));
+                }
+            }
+            if (visibilityChanged && spawned && manager != null) {
+                manager.getViewTracker().refresh(this);
+            }
         }
         
-        return text;
+        if (manager != null && manager.getHologram(name) == this) {
+            manager.saveHologram(name);
+        }
     }
     
+    /**
+     * Get the number of line slots, which is the line count of the longest page
+     */
     public int getLineCount() {
-        return lines.size();
+        int count = 0;
+        for (List<HologramLine> page : pages) {
+            count = Math.max(count, page.size());
+        }
+        return count;
     }
     
     public void clearLines() {
+        detachTemplate();
         lines.clear();
-        if (spawned) {
-            respawn();
-        }
+        pages.subList(1, pages.size()).clear();
+        despawn();
     }
     
     /**
@@ -331,9 +952,17 @@ public class Hologram {
      * @return A new Hologram instance with the same lines and properties
      */
     public Hologram clone(String newName, Location newLocation) {
-        Hologram clone = new Hologram(newName, newLocation, new ArrayList<>(lines));
+        Hologram clone = new Hologram(newName, newLocation, getLines());
         clone.setLineHeight(this.lineHeight);
         clone.setPermission(this.permission);
+        clone.setDisplayRange(this.displayRange);
+        for (int i = 1; i < pages.size(); i++) {
+            clone.addPage(getPageLines(i));
+        }
+        clone.setPageInterval(this.pageInterval);
+        if (template != null) {
+            clone.setTemplate(template, overrides);
+        }
         return clone;
     }
 
@@ -0,0 +1,119 @@
+package com.pandora.holograms.hologram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects changes to a hologram and applies them together.
+ * Nothing is rendered or saved until {@link #commit()}, which renders the changed lines
+ * once and queues a single save. Invalid indexes are ignored, like the single-line methods.
+ * 
+ * <pre>
+ * hologram.edit()
+ *         .setLine(0, "&amp;e&amp;lTop Players")
+ *         .insertLine(1, "&amp;71. Notch")
+ *         .lineHeight(0.25)
+ *         .commit();
+ * </pre>
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramEditor {
+    
+    private final Hologram hologram;
+    private final List<String> lines;
+    private double lineHeight;
+    private double displayRange;
+    private String permission;
+    private boolean committed;
+    
+    HologramEditor(Hologram hologram) {
+        this.hologram = hologram;
+        this.lines = hologram.getLines();
+        this.lineHeight = hologram.getLineHeight();
+        this.displayRange = hologram.getDisplayRange();
+        this.permission = hologram.getPermission();
+    }
+    
+    public HologramEditor addLine(String text) {
+        lines.add(text);
+        return this;
+    }
+    
+    public HologramEditor setLine(int index, String text) {
+        if (index >= 0 && index < lines.size()) {
+            lines.set(index, text);
+        }
+        return this;
+    }
+    
+    public HologramEditor insertLine(int index, String text) {
+        if (index >= 0 && index <= lines.size()) {
+            lines.add(index, text);
+        }
+        return this;
+    }
+    
+    public HologramEditor removeLine(int index) {
+        if (index >= 0 && index < lines.size()) {
+            lines.remove(index);
+        }
+        return this;
+    }
+    
+    /**
+     * Replace every line
+     * 
+     * @param lines The new lines
+     */
+    public HologramEditor setLines(List<String> lines) {
+        this.lines.clear();
+        this.lines.addAll(lines);
+        return this;
+    }
+    
+    public HologramEditor clearLines() {
+        lines.clear();
+        return this;
+    }
+    
+    public HologramEditor lineHeight(double lineHeight) {
+        this.lineHeight = lineHeight;
+        return this;
+    }
+    
+    public HologramEditor displayRange(double displayRange) {
+        this.displayRange = displayRange;
+        return this;
+    }
+    
+    public HologramEditor permission(String permission) {
+        this.permission = permission;
+        return this;
+    }
+    
+    /**
+     * Get the lines as they will be after committing
+     * 
+     * @return The pending lines
+     */
+    public List<String> getLines() {
+        return new ArrayList<>(lines);
+    }
+    
+    /**
+     * Apply every change to the hologram at once
+     * 
+     * @throws IllegalStateException If this edit was already committed
+     */
+    public void commit() {
+        if (committed) {
+            throw new IllegalStateException("This edit was already committed");
+        }
+        committed = true;
+        hologram.applyEdit(lines, lineHeight, displayRange, permission);
+    }
+
+}
+
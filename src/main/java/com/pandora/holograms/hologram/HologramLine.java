@@ -0,0 +1,83 @@
+package com.pandora.holograms.hologram;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single line of a hologram, parsed and compiled once when it is set.
+ * Static lines never need refreshing, dynamic lines contain placeholders
+ * and are refreshed by the refresh scheduler.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramLine {
+    
+    private static final Pattern REFRESH_PATTERN = Pattern.compile("\\{refresh:(\\d+)}");
+    
+    private final String raw;
+    private final String content;
+    private final LineTemplate template;
+    private final int refreshInterval;
+    
+    public HologramLine(String raw) {
+        this.raw = raw;
+        
+        int interval = 0;
+        String text = raw;
+        if (raw != null) {
+            Matcher matcher = REFRESH_PATTERN.matcher(raw);
+            if (matcher.find()) {
+                try {
+                    interval = Integer.parseInt(matcher.group(1));
+                } catch (NumberFormatException ignored) {
+                    // Out of range, use the default interval
+                }
+                text = matcher.replaceAll("");
+            }
+        }
+        
+        this.content = text;
+        this.refreshInterval = interval;
+        this.template = LineTemplate.get(text);
+    }
+    
+    /**
+     * Get the line exactly as it was set, including refresh tags
+     */
+    public String getRaw() {
+        return raw;
+    }
+    
+    /**
+     * Get the text to render, without refresh tags
+     */
+    public String getContent() {
+        return content;
+    }
+    
+    /**
+     * Check if the line contains placeholders and must be refreshed
+     */
+    public boolean isDynamic() {
+        return template.hasPlaceholders();
+    }
+    
+    /**
+     * Get the compiled template used to render this line
+     */
+    public LineTemplate getTemplate() {
+        return template;
+    }
+    
+    /**
+     * Get the refresh interval set with {refresh:ticks}
+     * 
+     * @return The interval in ticks, or 0 to use the default update-interval
+     */
+    public int getRefreshInterval() {
+        return refreshInterval;
+    }
+
+}
+
@@ -0,0 +1,298 @@
+package com.pandora.holograms.hologram;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.manager.HologramManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lines shared by many holograms that only differ in location, such as a label above every NPC.
+ * Instances reference the template lines instead of keeping their own, and store the lines they
+ * change as overrides. A shared line is rendered once per refresh for all instances, and an edit
+ * of the template reaches every instance in one pass.
+ * Spawned instances and their viewers are tracked as they change, so the refresh loop
+ * never has to walk every instance to find out who sees a shared line.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramTemplate implements LineHolder {
+    
+    private final String name;
+    private List<HologramLine> lines;
+    private final Set<Hologram> instances;
+    private final Set<Hologram> spawnedInstances;
+    private final Map<UUID, Integer> viewerCounts;
+    private final Set<UUID> viewers;
+    
+    public HologramTemplate(String name, List<String> lines) {
+        this.name = name;
+        this.lines = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            this.lines.add(new HologramLine(line));
+        }
+        this.instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.spawnedInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.viewerCounts = new HashMap<>();
+        this.viewers = Collections.unmodifiableSet(viewerCounts.keySet());
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public List<String> getLines() {
+        List<String> raw = new ArrayList<>(lines.size());
+        for (HologramLine line : lines) {
+            raw.add(line.getRaw());
+        }
+        return raw;
+    }
+    
+    public int getLineCount() {
+        return lines.size();
+    }
+    
+    /**
+     * Get the holograms that use this template
+     * 
+     * @return A copy of the instances
+     */
+    public List<Hologram> getInstances() {
+        return new ArrayList<>(instances);
+    }
+    
+    public int getInstanceCount() {
+        return instances.size();
+    }
+    
+    public void addLine(String text) {
+        List<String> updated = getLines();
+        updated.add(text);
+        setLines(updated);
+    }
+    
+    public void setLine(int index, String text) {
+        if (index < 0 || index >= lines.size()) {
+            return;
+        }
+        List<String> updated = getLines();
+        updated.set(index, text);
+        setLines(updated);
+    }
+    
+    /**
+     * Remove a line. Overrides of the lines below move up with them.
+     * 
+     * @param index The line index
+     */
+    public void removeLine(int index) {
+        if (index < 0 || index >= lines.size()) {
+            return;
+        }
+        List<String> updated = getLines();
+        updated.remove(index);
+        
+        int[] remap = new int[lines.size()];
+        for (int i = 0; i < remap.length; i++) {
+            remap[i] = i < index ? i : i == index ? -1 : i - 1;
+        }
+        apply(updated, remap);
+    }
+    
+    /**
+     * Replace every line. Lines are compared by position, unchanged lines are kept
+     * so instances only re-render the lines that changed.
+     * 
+     * @param newLines The new lines
+     */
+    public void setLines(List<String> newLines) {
+        apply(newLines, null);
+    }
+    
+    private void apply(List<String> newLines, int[] remap) {
+        List<HologramLine> updated = new ArrayList<>(newLines.size());
+        for (int i = 0; i < newLines.size(); i++) {
+            int old = remap == null ? i : indexOf(remap, i);
+            String raw = newLines.get(i);
+            if (old >= 0 && old < lines.size() && lines.get(old).getRaw().equals(raw)) {
+                updated.add(lines.get(old));
+            } else {
+                updated.add(new HologramLine(raw));
+            }
+        }
+        lines = updated;
+        
+        // One pass over the instances. Every instance is saved, its stored first page
+        // is the fallback if the template goes missing and must match the new lines.
+        HologramManager manager = PandoraHologramsPlugin.getInstance().getHologramManager();
+        for (Hologram instance : getInstances()) {
+            instance.syncTemplate(remap);
+            if (manager != null) {
+                manager.saveHologram(instance.getName());
+            }
+        }
+        if (manager != null) {
+            manager.getTemplateManager().save(this);
+        }
+    }
+    
+    private static int indexOf(int[] remap, int index) {
+        for (int i = 0; i < remap.length; i++) {
+            if (remap[i] == index) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Get a shared line
+     */
+    HologramLine getLine(int index) {
+        return lines.get(index);
+    }
+    
+    void addInstance(Hologram hologram) {
+        if (!instances.add(hologram)) {
+            return;
+        }
+        if (hologram.isSpawned()) {
+            spawnedInstances.add(hologram);
+        }
+        for (UUID uuid : hologram.getViewers()) {
+            viewerAdded(uuid);
+        }
+    }
+    
+    /**
+     * Stop tracking a hologram, e.g. because it was deleted. The hologram itself is left as is.
+     */
+    public void removeInstance(Hologram hologram) {
+        if (!instances.remove(hologram)) {
+            return;
+        }
+        spawnedInstances.remove(hologram);
+        for (UUID uuid : hologram.getViewers()) {
+            viewerRemoved(uuid);
+        }
+    }
+    
+    void instanceSpawned(Hologram hologram) {
+        if (instances.contains(hologram)) {
+            spawnedInstances.add(hologram);
+        }
+    }
+    
+    void instanceDespawned(Hologram hologram) {
+        spawnedInstances.remove(hologram);
+    }
+    
+    /**
+     * Count a player who started seeing one of the instances
+     */
+    void viewerAdded(UUID uuid) {
+        viewerCounts.merge(uuid, 1, Integer::sum);
+    }
+    
+    /**
+     * Count a player who stopped seeing one of the instances
+     */
+    void viewerRemoved(UUID uuid) {
+        viewerCounts.computeIfPresent(uuid, (key, count) -> count > 1 ? count - 1 : null);
+    }
+    
+    @Override
+    public int getLineIndex(HologramLine line) {
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i) == line) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    public boolean isSpawned() {
+        return !spawnedInstances.isEmpty();
+    }
+    
+    /**
+     * Get the players that see at least one instance
+     * 
+     * @return An unmodifiable live view of the viewer UUIDs
+     */
+    @Override
+    public Set<UUID> getViewers() {
+        return viewers;
+    }
+    
+    /**
+     * Render a shared line once for every viewer of every instance that shows it.
+     * Renderers that share their entities between players render it once in total.
+     */
+    @Override
+    public void refreshLine(HologramLine line) {
+        refreshLine(line, null);
+    }
+    
+    @Override
+    public void refreshLine(HologramLine line, Map<UUID, String> resolved) {
+        boolean perPlayer = PandoraHologramsPlugin.getInstance().getRenderer().isPerPlayer();
+        String shared = null;
+        if (!perPlayer && resolved != null && !resolved.isEmpty()) {
+            shared = resolved.values().iterator().next();
+        }
+        
+        // A shared line sits at its template index on every instance that does not override it
+        int index = getLineIndex(line);
+        if (index < 0) {
+            return;
+        }
+        
+        Map<UUID, String> rendered = new HashMap<>();
+        List<Hologram> showing = new ArrayList<>();
+        for (Hologram instance : spawnedInstances) {
+            if (instance.getViewers().isEmpty() || !instance.showsTemplateLine(index, line)) {
+                continue;
+            }
+            showing.add(instance);
+            for (UUID uuid : instance.getViewers()) {
+                if (rendered.containsKey(uuid)) {
+                    continue;
+                }
+                String text = resolved != null ? resolved.get(uuid) : null;
+                if (text == null) {
+                    if (shared != null) {
+                        text = shared;
+                    } else {
+                        Player player = Bukkit.getPlayer(uuid);
+                        if (player == null) {
+                            continue;
+                        }
+                        text = line.getTemplate().render(player);
+                        if (!perPlayer) {
+                            shared = text;
+                        }
+                    }
+                }
+                rendered.put(uuid, text);
+            }
+        }
+        
+        for (Hologram instance : showing) {
+            instance.refreshLine(index, line, rendered);
+        }
+    }
+
+}
+
@@ -0,0 +1,51 @@
+package com.pandora.holograms.hologram;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Owner of hologram lines that the refresh scheduler and the animation clock re-render.
+ * A {@link Hologram} holds its own lines, a {@link HologramTemplate} holds the lines
+ * shared by all of its instances and re-renders them for every instance at once.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public interface LineHolder {
+    
+    /**
+     * Get the current index of a line
+     * 
+     * @param line The line to look up
+     * @return The index, or -1 if the line is no longer part of this holder
+     */
+    int getLineIndex(HologramLine line);
+    
+    /**
+     * Check if the lines are currently shown anywhere
+     */
+    boolean isSpawned();
+    
+    /**
+     * Get the players the lines are currently shown to
+     */
+    Set<UUID> getViewers();
+    
+    /**
+     * Re-render a single line for its viewers
+     * 
+     * @param line The line to refresh
+     */
+    void refreshLine(HologramLine line);
+    
+    /**
+     * Re-render a single line with text whose placeholders were already resolved off the main thread
+     * 
+     * @param line The line that was resolved
+     * @param resolved The rendered text by viewer
+     */
+    void refreshLine(HologramLine line, Map<UUID, String> resolved);
+
+}
+
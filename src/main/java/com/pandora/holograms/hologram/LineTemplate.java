@@ -0,0 +1,235 @@
+package com.pandora.holograms.hologram;
+
+import com.pandora.holograms.animation.Animation;
+import com.pandora.holograms.animation.Animations;
+import com.pandora.holograms.util.PlaceholderUtil;
+import com.pandora.holograms.util.TextCache;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+/**
+ * A line compiled into literal segments, placeholder tokens and animations.
+ * Color codes in literals are translated once at compile time, so rendering only
+ * resolves the placeholders, picks the current animation frames and joins the segments.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class LineTemplate {
+    
+    private static final byte LITERAL = 0;
+    private static final byte PLACEHOLDER = 1;
+    private static final byte ANIMATION = 2;
+    
+    private static final LineTemplate BLANK = new LineTemplate(new String[]{" "}, new byte[]{LITERAL},
+            new Animation[1], Collections.emptyList(), false, " ", 1);
+    
+    // Headers, footers and other repeated lines compile once and are shared between holograms
+    private static final TextCache<LineTemplate> CACHE = new TextCache<>(4096, LineTemplate::compile);
+    
+    private final String[] segments;
+    private final byte[] kinds;
+    private final Animation[] segmentAnimations;
+    private final List<Animation> animations;
+    private final boolean placeholders;
+    private final String staticText;
+    private final int literalLength;
+    
+    private LineTemplate(String[] segments, byte[] kinds, Animation[] segmentAnimations, List<Animation> animations,
+                         boolean placeholders, String staticText, int literalLength) {
+        this.segments = segments;
+        this.kinds = kinds;
+        this.segmentAnimations = segmentAnimations;
+        this.animations = animations;
+        this.placeholders = placeholders;
+        this.staticText = staticText;
+        this.literalLength = literalLength;
+    }
+    
+    /**
+     * Get the shared template for a line, compiling it on first use
+     * 
+     * @param text The line text, without refresh tags
+     * @return The compiled template
+     */
+    public static LineTemplate get(String text) {
+        return text == null ? BLANK : CACHE.get(text);
+    }
+    
+    /**
+     * Get the cache of compiled templates
+     */
+    public static TextCache<LineTemplate> getCache() {
+        return CACHE;
+    }
+    
+    /**
+     * Compile a line. Empty lines render as a single space to keep the spacing.
+     * 
+     * @param text The line text, without refresh tags
+     * @return The compiled template
+     */
+    public static LineTemplate compile(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return BLANK;
+        }
+        
+        List<String> parts = new ArrayList<>();
+        List<Byte> kinds = new ArrayList<>();
+        List<Animation> partAnimations = new ArrayList<>();
+        List<Animation> animations = new ArrayList<>();
+        int last = 0;
+        Matcher matcher = Animations.TAG_PATTERN.matcher(text);
+        while (matcher.find()) {
+            Animation animation = Animations.get(matcher.group(1), matcher.group(2));
+            if (animation == null) {
+                // Invalid tags stay in the text as they are
+                continue;
+            }
+            addText(text.substring(last, matcher.start()), parts, kinds, partAnimations);
+            parts.add(null);
+            kinds.add(ANIMATION);
+            partAnimations.add(animation);
+            if (!animations.contains(animation)) {
+                animations.add(animation);
+            }
+            last = matcher.end();
+        }
+        addText(text.substring(last), parts, kinds, partAnimations);
+        
+        String[] segments = parts.toArray(new String[0]);
+        byte[] segmentKinds = new byte[segments.length];
+        boolean placeholders = false;
+        int literalLength = 0;
+        for (int i = 0; i < segments.length; i++) {
+            segmentKinds[i] = kinds.get(i);
+            if (segmentKinds[i] == LITERAL) {
+                literalLength += segments[i].length();
+            } else {
+                placeholders |= segmentKinds[i] == PLACEHOLDER || partAnimations.get(i).hasPlaceholders();
+            }
+        }
+        
+        String staticText = placeholders || !animations.isEmpty() ? null : colorize(text);
+        return new LineTemplate(segments, segmentKinds, partAnimations.toArray(new Animation[0]),
+                Collections.unmodifiableList(animations), placeholders, staticText, literalLength);
+    }
+    
+    /**
+     * Split text without animations into literal and placeholder segments
+     */
+    private static void addText(String text, List<String> parts, List<Byte> kinds, List<Animation> partAnimations) {
+        if (text.isEmpty()) {
+            return;
+        }
+        
+        int last = 0;
+        if (PlaceholderUtil.isPlaceholderApiEnabled()) {
+            Matcher matcher = PlaceholderUtil.PLACEHOLDER_PATTERN.matcher(text);
+            while (matcher.find()) {
+                if (matcher.start() > last) {
+                    parts.add(colorize(text.substring(last, matcher.start())));
+                    kinds.add(LITERAL);
+                    partAnimations.add(null);
+                }
+                parts.add(matcher.group());
+                kinds.add(PLACEHOLDER);
+                partAnimations.add(null);
+                last = matcher.end();
+            }
+        }
+        if (last < text.length()) {
+            parts.add(colorize(text.substring(last)));
+            kinds.add(LITERAL);
+            partAnimations.add(null);
+        }
+    }
+    
+    /**
+     * Check if the template contains placeholders, directly or inside an animation
+     */
+    public boolean hasPlaceholders() {
+        return placeholders;
+    }
+    
+    /**
+     * Check if the template contains animations
+     */
+    public boolean hasAnimations() {
+        return !animations.isEmpty();
+    }
+    
+    /**
+     * Get the distinct animations used by this template
+     */
+    public List<Animation> getAnimations() {
+        return animations;
+    }
+    
+    /**
+     * Check if every placeholder in the template comes from one of the given expansions.
+     * Placeholders inside animations are not checked, so templates with them never match.
+     * 
+     * @param expansions Lowercase expansion identifiers
+     * @return True if the template has placeholders and all of them are from the expansions
+     */
+    public boolean usesOnlyExpansions(Set<String> expansions) {
+        if (!placeholders) {
+            return false;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (kinds[i] == ANIMATION && segmentAnimations[i].hasPlaceholders()) {
+                return false;
+            }
+            if (kinds[i] == PLACEHOLDER) {
+                // Segments look like %identifier_params%
+                String identifier = segments[i].substring(1, segments[i].indexOf('_')).toLowerCase();
+                if (!expansions.contains(identifier)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Render the template
+     * 
+     * @param player The player to resolve placeholders for, or null to leave them unresolved
+     * @return The display text
+     */
+    public String render(Player player) {
+        if (staticText != null) {
+            return staticText;
+        }
+        
+        StringBuilder builder = new StringBuilder(literalLength + segments.length * 8);
+        for (int i = 0; i < segments.length; i++) {
+            switch (kinds[i]) {
+                case PLACEHOLDER:
+                    builder.append(player != null ? PlaceholderUtil.resolvePlaceholder(segments[i], player) : segments[i]);
+                    break;
+                case ANIMATION:
+                    Animation animation = segmentAnimations[i];
+                    String frame = animation.getCurrentFrame();
+                    builder.append(animation.hasPlaceholders() && player != null
+                            ? PlaceholderUtil.parsePlaceholders(frame, player) : frame);
+                    break;
+                default:
+                    builder.append(segments[i]);
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+    
+    private static String colorize(String text) {
+        return text.replace('&', '§');
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.pandora.holograms.listener;
+
+import com.pandora.holograms.manager.HologramManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Spawns holograms when their chunk loads and removes them when it unloads.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class ChunkListener implements Listener {
+    
+    private final HologramManager manager;
+    
+    public ChunkListener(HologramManager manager) {
+        this.manager = manager;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        manager.onChunkLoad(event.getChunk());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        manager.onChunkUnload(event.getChunk());
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.pandora.holograms.listener;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.manager.HologramManager;
+import com.pandora.holograms.manager.ViewTracker;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Keeps hologram viewers in sync with players joining, leaving, moving and changing worlds,
+ * and with permission changes for permission-gated holograms.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class PlayerListener implements Listener {
+    
+    private final PandoraHologramsPlugin plugin;
+    private final HologramManager manager;
+    
+    public PlayerListener(PandoraHologramsPlugin plugin, HologramManager manager) {
+        this.plugin = plugin;
+        this.manager = manager;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        getTracker().recheckPermissions(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        getTracker().remove(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        // Only recalculate when the player enters a new block
+        if (to == null || (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ())) {
+            return;
+        }
+        getTracker().update(event.getPlayer(), to);
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        Player player = event.getPlayer();
+        // Wait until the player has arrived, the target may be in another world
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                getTracker().update(player, player.getLocation());
+            }
+        });
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        // Permissions can be per world
+        getTracker().recheckPermissions(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCommandsSent(PlayerCommandSendEvent event) {
+        Player player = event.getPlayer();
+        // The server resends the command list when a player's permissions change, e.g. on op or a permission plugin update
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                getTracker().recheckPermissions(player);
+            }
+        });
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        Player player = event.getPlayer();
+        // The client forgets all entities on respawn, resend once the player is back
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                getTracker().resend(player);
+            }
+        });
+    }
+    
+    private ViewTracker getTracker() {
+        return manager.getViewTracker();
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.pandora.holograms.manager;
+
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Indexes holograms by world and chunk so chunk events and range queries
+ * can find them without a full scan.
+ * Updates are atomic per chunk and the chunk lists are copy-on-write,
+ * so the index can be read from any thread without locking.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class ChunkIndex {
+    
+    private final Map<UUID, Map<Long, List<Hologram>>> worlds;
+    
+    public ChunkIndex() {
+        this.worlds = new ConcurrentHashMap<>();
+    }
+    
+    public void add(Hologram hologram) {
+        add(hologram, hologram.getLocation());
+    }
+    
+    public void remove(Hologram hologram) {
+        remove(hologram, hologram.getLocation());
+    }
+    
+    /**
+     * Move a hologram to the chunk of its current location
+     * 
+     * @param hologram The hologram that moved
+     * @param oldLocation The location it was indexed at
+     */
+    public void move(Hologram hologram, Location oldLocation) {
+        remove(hologram, oldLocation);
+        add(hologram);
+    }
+    
+    /**
+     * Get the holograms in a chunk
+     * 
+     * @return The holograms in the chunk, or an empty list
+     */
+    public List<Hologram> getHolograms(World world, int chunkX, int chunkZ) {
+        Map<Long, List<Hologram>> chunks = worlds.get(world.getUID());
+        if (chunks == null) {
+            return Collections.emptyList();
+        }
+        List<Hologram> holograms = chunks.get(chunkKey(chunkX, chunkZ));
+        return holograms != null ? holograms : Collections.emptyList();
+    }
+    
+    /**
+     * Get the holograms in a world
+     * 
+     * @return The holograms in the world, or an empty list
+     */
+    public List<Hologram> getHolograms(World world) {
+        Map<Long, List<Hologram>> chunks = worlds.get(world.getUID());
+        if (chunks == null) {
+            return Collections.emptyList();
+        }
+        List<Hologram> result = new ArrayList<>();
+        for (List<Hologram> holograms : chunks.values()) {
+            result.addAll(holograms);
+        }
+        return result;
+    }
+    
+    /**
+     * Get the holograms in every chunk that intersects the square around a position.
+     * Callers still need to check the exact distance.
+     * 
+     * @param world The world to search
+     * @param x The block x coordinate of the center
+     * @param z The block z coordinate of the center
+     * @param radius The search radius in blocks
+     * @return The holograms in the chunks around the position
+     */
+    public List<Hologram> getNearby(World world, double x, double z, double radius) {
+        Map<Long, List<Hologram>> chunks = worlds.get(world.getUID());
+        if (chunks == null || chunks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        int minX = (int) Math.floor(x - radius) >> 4;
+        int maxX = (int) Math.floor(x + radius) >> 4;
+        int minZ = (int) Math.floor(z - radius) >> 4;
+        int maxZ = (int) Math.floor(z + radius) >> 4;
+        
+        List<Hologram> result = new ArrayList<>();
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > chunks.size()) {
+            // Large radius, it is cheaper to check the occupied chunks than every chunk in the square
+            for (Map.Entry<Long, List<Hologram>> entry : chunks.entrySet()) {
+                int chunkX = (int) (entry.getKey() >> 32);
+                int chunkZ = (int) (long) entry.getKey();
+                if (chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ) {
+                    result.addAll(entry.getValue());
+                }
+            }
+            return result;
+        }
+        for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+                List<Hologram> holograms = chunks.get(chunkKey(chunkX, chunkZ));
+                if (holograms != null) {
+                    result.addAll(holograms);
+                }
+            }
+        }
+        return result;
+    }
+    
+    public void clear() {
+        worlds.clear();
+    }
+    
+    private void add(Hologram hologram, Location location) {
+        if (location.getWorld() == null) {
+            return;
+        }
+        worlds.computeIfAbsent(location.getWorld().getUID(), uid -> new ConcurrentHashMap<>())
+                .compute(chunkKey(location), (key, holograms) -> {
+                    List<Hologram> list = holograms != null ? holograms : new CopyOnWriteArrayList<>();
+                    list.add(hologram);
+                    return list;
+                });
+    }
+    
+    private void remove(Hologram hologram, Location location) {
+        if (location.getWorld() == null) {
+            return;
+        }
+        Map<Long, List<Hologram>> chunks = worlds.get(location.getWorld().getUID());
+        if (chunks == null) {
+            return;
+        }
+        chunks.computeIfPresent(chunkKey(location), (key, holograms) -> {
+            holograms.remove(hologram);
+            return holograms.isEmpty() ? null : holograms;
+        });
+    }
+    
+    private static long chunkKey(Location location) {
+        return chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+    
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+}
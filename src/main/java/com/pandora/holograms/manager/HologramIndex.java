@@ -0,0 +1,90 @@
+package com.pandora.holograms.manager;
+
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Search index of hologram names, positions and line text.
+ * Entries are immutable and rebuilt on the main thread whenever a hologram
+ * is added, moved or saved, so searches can run on any thread without
+ * touching the holograms themselves. Entries are sorted by name.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramIndex {
+    
+    private final NavigableMap<String, Entry> entries;
+    
+    public HologramIndex() {
+        this.entries = new ConcurrentSkipListMap<>();
+    }
+    
+    public void update(Hologram hologram) {
+        entries.put(hologram.getName().toLowerCase(), new Entry(hologram));
+    }
+    
+    public void remove(Hologram hologram) {
+        entries.computeIfPresent(hologram.getName().toLowerCase(), (name, entry) -> entry.hologram == hologram ? null : entry);
+    }
+    
+    public void clear() {
+        entries.clear();
+    }
+    
+    /**
+     * Find the holograms matching a query
+     * 
+     * @param query The filters to apply
+     * @return The matching holograms, sorted by name
+     */
+    public List<Hologram> search(HologramQuery query) {
+        String prefix = query.getNamePrefix();
+        NavigableMap<String, Entry> candidates = prefix.isEmpty() ? entries : entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        
+        List<Hologram> result = new ArrayList<>();
+        for (Entry entry : candidates.values()) {
+            if (query.matches(entry)) {
+                result.add(entry.hologram);
+            }
+        }
+        return result;
+    }
+    
+    static class Entry {
+        final Hologram hologram;
+        final String name;
+        final UUID world;
+        final double x;
+        final double y;
+        final double z;
+        final String content;
+        
+        private Entry(Hologram hologram) {
+            Location location = hologram.getLocation();
+            this.hologram = hologram;
+            this.name = hologram.getName().toLowerCase();
+            this.world = location.getWorld() != null ? location.getWorld().getUID() : null;
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+            
+            StringBuilder text = new StringBuilder();
+            for (int page = 0; page < hologram.getPageCount(); page++) {
+                for (String line : hologram.getPageLines(page)) {
+                    text.append(ChatColor.stripColor(ChatColor.translateAlternateColorCodes('&', line)).toLowerCase()).append('\n');
+                }
+            }
+            this.content = text.toString();
+        }
+    }
+
+}
+
@@ -2,30 +2,62 @@ package com.pandora.holograms.manager;
 
 import com.pandora.holograms.PandoraHologramsPlugin;
 import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.hologram.HologramTemplate;
+import com.pandora.holograms.storage.HologramData;
 import com.pandora.holograms.storage.HologramStorage;
+import com.pandora.holograms.storage.TemplateData;
+import com.pandora.holograms.storage.WriteBehindQueue;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages all holograms in the plugin.
  * Handles creation, deletion, loading, and saving of holograms.
+ * Changes happen on the main thread, lookups and snapshots are safe from any thread.
  * 
  * @author Blacnova Development
  * @version 1.0.0
  */
 public class HologramManager {
     
+    private static final int IMPORT_BATCH_SIZE = 50;
+    
     private final PandoraHologramsPlugin plugin;
     private final HologramStorage storage;
     private final Map<String, Hologram> holograms;
+    private final AtomicLong version;
+    private volatile Snapshot snapshot;
+    private final ChunkIndex chunkIndex;
+    private final HologramIndex searchIndex;
+    private final PermissionCache permissionCache;
+    private final ViewTracker viewTracker;
+    private final WriteBehindQueue saveQueue;
+    private final TemplateManager templateManager;
+    private volatile boolean loading;
     
     public HologramManager(PandoraHologramsPlugin plugin, HologramStorage storage) {
         this.plugin = plugin;
         this.storage = storage;
-        this.holograms = new HashMap<>();
+        this.holograms = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
+        this.snapshot = new Snapshot(0L, Collections.emptyList());
+        this.chunkIndex = new ChunkIndex();
+        this.searchIndex = new HologramIndex();
+        this.permissionCache = new PermissionCache();
+        this.viewTracker = new ViewTracker(chunkIndex, permissionCache, plugin.getConfig().getDouble("default-display-range", 48.0));
+        this.saveQueue = new WriteBehindQueue(plugin, storage, plugin.getConfig().getLong("save-delay", 40L));
+        this.templateManager = new TemplateManager(plugin, saveQueue);
     }
     
     public Hologram createHologram(String name, Location location) {
@@ -41,8 +73,8 @@ public class HologramManager {
         }
         
         Hologram hologram = new Hologram(name, location);
-        holograms.put(name.toLowerCase(), hologram);
-        hologram.spawn();
+        addHologram(hologram);
+        spawnIfLoaded(hologram);
         return hologram;
     }
     
@@ -62,13 +94,53 @@ public class HologramManager {
         }
         
         Hologram hologram = new Hologram(name, location, lines);
-        holograms.put(name.toLowerCase(), hologram);
-        hologram.spawn();
+        addHologram(hologram);
+        spawnIfLoaded(hologram);
+        return hologram;
+    }
+    
+    /**
+     * Create a hologram whose lines come from a template
+     * 
+     * @param name The name of the hologram
+     * @param location The location of the hologram
+     * @param template The template to use
+     * @return The hologram, or null if the name is taken or the location is invalid
+     */
+    public Hologram createHologram(String name, Location location, HologramTemplate template) {
+        if (name == null || name.isEmpty() || template == null) {
+            return null;
+        }
+        if (location == null || location.getWorld() == null) {
+            plugin.getLogger().warning("Cannot create hologram '" + name + "' - invalid location!");
+            return null;
+        }
+        if (holograms.containsKey(name.toLowerCase())) {
+            return null;
+        }
+        
+        // Link before spawning so the shared lines are rendered from the start
+        Hologram hologram = new Hologram(name, location);
+        hologram.setTemplate(template, Collections.emptyMap());
+        addHologram(hologram);
+        spawnIfLoaded(hologram);
         return hologram;
     }
     
     public void addHologram(Hologram hologram) {
-        holograms.put(hologram.getName().toLowerCase(), hologram);
+        Hologram previous = holograms.put(hologram.getName().toLowerCase(), hologram);
+        if (previous != null && previous != hologram) {
+            // The replaced hologram is gone for good, leave nothing of it in the world
+            chunkIndex.remove(previous);
+            previous.despawn();
+            viewTracker.untrack(previous);
+            if (previous.getTemplate() != null) {
+                previous.getTemplate().removeInstance(previous);
+            }
+        }
+        chunkIndex.add(hologram);
+        searchIndex.update(hologram);
+        version.incrementAndGet();
     }
     
     public Hologram getHologram(String name) {
@@ -82,46 +154,439 @@ public class HologramManager {
     public boolean deleteHologram(String name) {
         Hologram hologram = holograms.remove(name.toLowerCase());
         if (hologram != null) {
+            version.incrementAndGet();
+            chunkIndex.remove(hologram);
+            searchIndex.remove(hologram);
             hologram.despawn();
+            viewTracker.untrack(hologram);
+            if (hologram.getTemplate() != null) {
+                hologram.getTemplate().removeInstance(hologram);
+            }
+            saveQueue.delete(hologram.getName());
             return true;
         }
         return false;
     }
     
+    /**
+     * Get every hologram. The returned list is an immutable snapshot that is shared
+     * between callers and only rebuilt after a hologram is added or removed.
+     * 
+     * @return A snapshot of all holograms
+     */
     public Collection<Hologram> getAllHolograms() {
-        return new ArrayList<>(holograms.values());
+        Snapshot current = snapshot;
+        long currentVersion = version.get();
+        if (current.version != currentVersion) {
+            // Read the version before copying, a change during the copy makes the next call rebuild again
+            current = new Snapshot(currentVersion, Collections.unmodifiableList(new ArrayList<>(holograms.values())));
+            snapshot = current;
+        }
+        return current.holograms;
+    }
+    
+    /**
+     * Get the holograms in a world
+     * 
+     * @param world The world
+     * @return The holograms in the world
+     */
+    public List<Hologram> getHologramsInWorld(World world) {
+        return chunkIndex.getHolograms(world);
+    }
+    
+    /**
+     * Get the holograms within a radius of a location, answered from the chunk index
+     * 
+     * @param location The center of the search
+     * @param radius The radius in blocks
+     * @return The holograms in range, nearest first
+     */
+    public List<Hologram> getHologramsNear(Location location, double radius) {
+        World world = location.getWorld();
+        if (world == null || radius < 0) {
+            return Collections.emptyList();
+        }
+        
+        double radiusSquared = radius * radius;
+        List<Hologram> result = new ArrayList<>();
+        Map<Hologram, Double> distances = new HashMap<>();
+        for (Hologram hologram : chunkIndex.getNearby(world, location.getX(), location.getZ(), radius)) {
+            double distance = hologram.getLocation().distanceSquared(location);
+            if (distance <= radiusSquared) {
+                result.add(hologram);
+                distances.put(hologram, distance);
+            }
+        }
+        result.sort(Comparator.comparingDouble(distances::get));
+        return result;
+    }
+    
+    /**
+     * Get the holograms in a chunk
+     * 
+     * @param world The world of the chunk
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The holograms in the chunk
+     */
+    public List<Hologram> getHologramsInChunk(World world, int chunkX, int chunkZ) {
+        return chunkIndex.getHolograms(world, chunkX, chunkZ);
+    }
+    
+    /**
+     * Search holograms by world, distance, name and line text.
+     * Matching runs off the main thread against the search index,
+     * which is refreshed whenever a hologram is added, moved or saved.
+     * 
+     * @param query The filters to apply
+     * @return A future completed on the main thread with the matches sorted by name
+     */
+    public CompletableFuture<List<Hologram>> search(HologramQuery query) {
+        CompletableFuture<List<Hologram>> result = new CompletableFuture<>();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<Hologram> matches = searchIndex.search(query);
+            Bukkit.getScheduler().runTask(plugin, () -> result.complete(matches));
+        });
+        return result;
+    }
+    
+    /**
+     * Get the number of hologram-viewer pairs, a player seeing three holograms counts three times
+     */
+    public int getViewerCount() {
+        int count = 0;
+        for (Hologram hologram : holograms.values()) {
+            count += hologram.getViewers().size();
+        }
+        return count;
     }
     
     public void removeAll() {
         for (Hologram hologram : holograms.values()) {
             hologram.despawn();
+            if (hologram.getTemplate() != null) {
+                hologram.getTemplate().removeInstance(hologram);
+            }
         }
         holograms.clear();
+        version.incrementAndGet();
+        chunkIndex.clear();
+        searchIndex.clear();
+        viewTracker.clear();
     }
     
-    public void loadAll() {
-        storage.loadAll(this);
-        
-        // Spawn all loaded holograms on next tick (after worlds are fully loaded)
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            for (Hologram hologram : holograms.values()) {
-                if (hologram.getLocation().getWorld() != null) {
-                    hologram.spawn();
+    /**
+     * Check if holograms are being loaded from storage. Edits are refused until the load is done.
+     * 
+     * @return True while a load is running
+     */
+    public boolean isLoading() {
+        return loading;
+    }
+    
+    /**
+     * Load all holograms from storage. Reading happens on the storage thread,
+     * the holograms are created and spawned back on the main thread.
+     * Stored holograms whose name was registered while reading are skipped,
+     * the registered one is newer.
+     * 
+     * @return A future completed on the main thread once every hologram is loaded
+     */
+    public CompletableFuture<Integer> loadAll() {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        loading = true;
+        CompletableFuture<List<TemplateData>> storedTemplates = saveQueue.loadTemplates();
+        CompletableFuture<List<HologramData>> stored = saveQueue.load();
+        CompletableFuture.allOf(storedTemplates, stored).whenComplete((ignored, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            loading = false;
+            if (error != null) {
+                plugin.getLogger().severe("Failed to load holograms from " + storage.getName() + " storage!");
+                error.printStackTrace();
+                result.completeExceptionally(error);
+                return;
+            }
+            
+            // Templates come first so holograms can link to them
+            templateManager.load(storedTemplates.join());
+            for (HologramData entry : stored.join()) {
+                if (exists(entry.getName())) {
+                    continue;
                 }
+                Hologram hologram = createFromData(entry);
+                if (hologram != null) {
+                    addHologram(hologram);
+                }
+            }
+            
+            // Holograms in loaded chunks spawn now, the rest spawn when their chunk loads
+            for (Hologram hologram : holograms.values()) {
+                spawnIfLoaded(hologram);
             }
             plugin.getLogger().info("Loaded " + holograms.size() + " hologram(s)!");
-        });
+            result.complete(holograms.size());
+        }));
+        return result;
+    }
+    
+    /**
+     * Add holograms in batches spread over several ticks, so a large import never stalls the server.
+     * Holograms whose name is taken or whose world does not exist are skipped.
+     * Everything imported is handed to storage in a single flush at the end.
+     * 
+     * @param data The holograms to add
+     * @return A future completed on the main thread with the number of holograms added
+     */
+    public CompletableFuture<Integer> importHolograms(List<HologramData> data) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        Iterator<HologramData> pending = data.iterator();
+        List<Hologram> imported = new ArrayList<>();
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < IMPORT_BATCH_SIZE && pending.hasNext(); i++) {
+                    HologramData entry = pending.next();
+                    if (exists(entry.getName())) {
+                        continue;
+                    }
+                    Hologram hologram = createFromData(entry);
+                    if (hologram != null) {
+                        addHologram(hologram);
+                        spawnIfLoaded(hologram);
+                        imported.add(hologram);
+                    }
+                }
+                if (pending.hasNext()) {
+                    return;
+                }
+                
+                cancel();
+                for (Hologram hologram : imported) {
+                    // Skip holograms deleted while the import was running
+                    if (holograms.get(hologram.getName().toLowerCase()) == hologram) {
+                        saveQueue.save(hologram);
+                    }
+                }
+                saveQueue.flush();
+                plugin.getLogger().info("Imported " + imported.size() + " of " + data.size() + " hologram(s).");
+                result.complete(imported.size());
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+        return result;
     }
     
+    /**
+     * Take a snapshot of holograms for exporting
+     * 
+     * @param world The world to export, or null for every hologram
+     * @return The state of the holograms, safe to write from any thread
+     */
+    public List<HologramData> getHologramData(World world) {
+        Collection<Hologram> source = world != null ? getHologramsInWorld(world) : getAllHolograms();
+        List<HologramData> result = new ArrayList<>(source.size());
+        for (Hologram hologram : source) {
+            result.add(HologramData.of(hologram));
+        }
+        return result;
+    }
+    
+    /**
+     * Copy every hologram and template from one storage backend into another.
+     * Pending edits are flushed first and the copy runs on the storage thread.
+     * Entries already in the target are overwritten, others are left alone.
+     * 
+     * @param fromType The storage-type to read from
+     * @param toType The storage-type to write to
+     * @return A future completed on the main thread with the number of holograms copied
+     */
+    public CompletableFuture<Integer> convertStorage(String fromType, String toType) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        saveQueue.flush();
+        saveQueue.submit(() -> {
+            HologramStorage from = openStorage(fromType);
+            HologramStorage to = openStorage(toType);
+            try {
+                if (from == null || to == null) {
+                    throw new IllegalArgumentException("Unknown or unconfigured storage-type '" + (from == null ? fromType : toType) + "'");
+                }
+                to.writeTemplates(from.loadTemplates(), Collections.emptyList());
+                List<HologramData> data = from.loadAll();
+                to.write(data, Collections.emptyList());
+                return data.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                closeStorage(from);
+                closeStorage(to);
+            }
+        }).whenComplete((count, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                result.completeExceptionally(cause instanceof UncheckedIOException ? cause.getCause() : cause);
+            } else {
+                plugin.getLogger().info("Copied " + count + " hologram(s) from " + fromType + " to " + toType + " storage.");
+                result.complete(count);
+            }
+        }));
+        return result;
+    }
+    
+    /**
+     * Reuse the active backend so its cached state stays in sync with what is written
+     */
+    private HologramStorage openStorage(String type) {
+        return storage.getName().equalsIgnoreCase(type) ? storage : plugin.createStorage(type);
+    }
+    
+    private void closeStorage(HologramStorage opened) {
+        if (opened != null && opened != storage) {
+            opened.close();
+        }
+    }
+    
+    private Hologram createFromData(HologramData data) {
+        World world = data.getWorld() != null ? Bukkit.getWorld(data.getWorld()) : null;
+        if (world == null) {
+            plugin.getLogger().warning("World '" + data.getWorld() + "' for hologram '" + data.getName() + "' does not exist! Skipping...");
+            return null;
+        }
+        
+        // Ensure pitch and yaw are 0 to prevent upside-down holograms
+        Location location = new Location(world, data.getX(), data.getY(), data.getZ(), 0.0f, 0.0f);
+        
+        List<String> lines = new ArrayList<>(data.getLines());
+        if (lines.isEmpty()) {
+            lines.add("&7Empty Hologram");
+        }
+        
+        Hologram hologram = new Hologram(data.getName(), location, lines);
+        if (data.getTemplate() != null) {
+            HologramTemplate template = templateManager.getTemplate(data.getTemplate());
+            if (template != null) {
+                hologram.setTemplate(template, data.getOverrides());
+            } else {
+                plugin.getLogger().warning("Template '" + data.getTemplate() + "' for hologram '" + data.getName() + "' does not exist! Using its saved lines...");
+            }
+        }
+        if (data.getPermission() != null && !data.getPermission().isEmpty()) {
+            hologram.setPermission(data.getPermission());
+        }
+        if (data.hasLineHeight()) {
+            hologram.setLineHeight(data.getLineHeight());
+        }
+        if (data.hasDisplayRange()) {
+            hologram.setDisplayRange(data.getDisplayRange());
+        }
+        for (List<String> page : data.getPages()) {
+            hologram.addPage(page);
+        }
+        hologram.setPageInterval(data.getPageInterval());
+        return hologram;
+    }
+    
+    /**
+     * Spawn a hologram if its chunk is loaded. Never loads the chunk.
+     * 
+     * @param hologram The hologram to spawn
+     */
+    public void spawnIfLoaded(Hologram hologram) {
+        if (isChunkLoaded(hologram.getLocation())) {
+            hologram.spawn();
+        }
+    }
+    
+    /**
+     * Update the chunk index after a hologram moved, spawning or despawning it
+     * depending on whether its new chunk is loaded
+     * 
+     * @param hologram The hologram that moved
+     * @param oldLocation The location before the move
+     */
+    public void relocate(Hologram hologram, Location oldLocation) {
+        if (holograms.get(hologram.getName().toLowerCase()) != hologram) {
+            return;
+        }
+        chunkIndex.move(hologram, oldLocation);
+        searchIndex.update(hologram);
+        if (!isChunkLoaded(hologram.getLocation())) {
+            hologram.despawn();
+        } else if (!hologram.isSpawned()) {
+            hologram.spawn();
+        } else {
+            viewTracker.refresh(hologram);
+        }
+    }
+    
+    public ViewTracker getViewTracker() {
+        return viewTracker;
+    }
+    
+    public PermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+    
+    public TemplateManager getTemplateManager() {
+        return templateManager;
+    }
+    
+    public void onChunkLoad(Chunk chunk) {
+        for (Hologram hologram : chunkIndex.getHolograms(chunk.getWorld(), chunk.getX(), chunk.getZ())) {
+            hologram.spawn();
+        }
+    }
+    
+    public void onChunkUnload(Chunk chunk) {
+        for (Hologram hologram : chunkIndex.getHolograms(chunk.getWorld(), chunk.getX(), chunk.getZ())) {
+            hologram.despawn();
+        }
+    }
+    
+    /**
+     * Check if the chunk of a location is loaded, without loading it
+     */
+    public static boolean isChunkLoaded(Location location) {
+        World world = location.getWorld();
+        return world != null && world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+    
+    /**
+     * Save every hologram and wait until it is written
+     */
     public void saveAll() {
-        storage.saveAll(holograms.values());
+        for (Hologram hologram : holograms.values()) {
+            saveQueue.save(hologram);
+        }
+        saveQueue.flushNow();
         plugin.getLogger().info("Saved " + holograms.size() + " hologram(s)!");
     }
     
+    /**
+     * Queue a hologram to be saved. Edits within the save-delay window are written together.
+     * 
+     * @param name The name of the hologram
+     */
     public void saveHologram(String name) {
         Hologram hologram = getHologram(name);
         if (hologram != null) {
-            storage.saveHologram(hologram);
+            searchIndex.update(hologram);
+            saveQueue.save(hologram);
+        }
+    }
+    
+    /**
+     * Write all pending changes and stop the storage thread
+     */
+    public void shutdown() {
+        saveQueue.shutdown();
+    }
+    
+    private static class Snapshot {
+        private final long version;
+        private final List<Hologram> holograms;
+        
+        private Snapshot(long version, List<Hologram> holograms) {
+            this.version = version;
+            this.holograms = holograms;
         }
     }
 
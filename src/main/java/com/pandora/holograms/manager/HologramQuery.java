@@ -0,0 +1,105 @@
+package com.pandora.holograms.manager;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Filters for a hologram search. Every filter that is set must match.
+ * The query copies what it needs from worlds and locations, so it can be
+ * evaluated off the main thread.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramQuery {
+    
+    private UUID world;
+    private double centerX;
+    private double centerY;
+    private double centerZ;
+    private double radiusSquared = -1.0;
+    private String namePrefix = "";
+    private Pattern namePattern;
+    private String text;
+    
+    /**
+     * Only match holograms in a world
+     */
+    public HologramQuery world(World world) {
+        this.world = world.getUID();
+        return this;
+    }
+    
+    /**
+     * Only match holograms within a radius of a location, this also limits the search to its world
+     */
+    public HologramQuery near(Location center, double radius) {
+        world(center.getWorld());
+        this.centerX = center.getX();
+        this.centerY = center.getY();
+        this.centerZ = center.getZ();
+        this.radiusSquared = radius * radius;
+        return this;
+    }
+    
+    /**
+     * Only match hologram names against a glob, * matches any text and ? one character
+     */
+    public HologramQuery name(String glob) {
+        String lower = glob.toLowerCase();
+        StringBuilder regex = new StringBuilder();
+        int prefixEnd = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '*' || c == '?') {
+                if (prefixEnd < 0) {
+                    prefixEnd = i;
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        this.namePrefix = prefixEnd < 0 ? lower : lower.substring(0, prefixEnd);
+        this.namePattern = Pattern.compile(regex.toString());
+        return this;
+    }
+    
+    /**
+     * Only match holograms with a line containing the text, colour codes and case are ignored
+     */
+    public HologramQuery text(String text) {
+        this.text = text.toLowerCase();
+        return this;
+    }
+    
+    /**
+     * The literal start of the name glob, used to narrow the name index before matching
+     */
+    String getNamePrefix() {
+        return namePrefix;
+    }
+    
+    boolean matches(HologramIndex.Entry entry) {
+        if (world != null && !world.equals(entry.world)) {
+            return false;
+        }
+        if (radiusSquared >= 0) {
+            double dx = entry.x - centerX;
+            double dy = entry.y - centerY;
+            double dz = entry.z - centerZ;
+            if (dx * dx + dy * dy + dz * dz > radiusSquared) {
+                return false;
+            }
+        }
+        if (namePattern != null && !namePattern.matcher(entry.name).matches()) {
+            return false;
+        }
+        return text == null || entry.content.contains(text);
+    }
+
+}
+
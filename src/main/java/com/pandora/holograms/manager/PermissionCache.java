@@ -0,0 +1,72 @@
+package com.pandora.holograms.manager;
+
+import org.bukkit.entity.Player;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the result of permission checks for hologram visibility.
+ * Every distinct permission node gets a number, and each player keeps two bit sets:
+ * the nodes that were checked and the nodes that were granted. Results stay valid
+ * until the player joins, changes world or their permissions are recalculated.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class PermissionCache {
+    
+    private final Map<String, Integer> nodes;
+    private final AtomicInteger nextNode;
+    private final Map<UUID, Entry> players;
+    
+    public PermissionCache() {
+        this.nodes = new ConcurrentHashMap<>();
+        this.nextNode = new AtomicInteger();
+        this.players = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Check if a player has a permission, asking the server only the first time
+     * 
+     * @param player The player to check
+     * @param permission The permission node
+     * @return True if the player has the permission
+     */
+    public boolean hasPermission(Player player, String permission) {
+        int node = nodes.computeIfAbsent(permission.toLowerCase(), key -> nextNode.getAndIncrement());
+        Entry entry = players.computeIfAbsent(player.getUniqueId(), uuid -> new Entry());
+        synchronized (entry) {
+            if (entry.checked.get(node)) {
+                return entry.granted.get(node);
+            }
+            boolean granted = player.hasPermission(permission);
+            entry.checked.set(node);
+            entry.granted.set(node, granted);
+            return granted;
+        }
+    }
+    
+    /**
+     * Forget the cached results of a player, the next checks ask the server again
+     * 
+     * @param uuid The player
+     */
+    public void invalidate(UUID uuid) {
+        players.remove(uuid);
+    }
+    
+    public void clear() {
+        players.clear();
+    }
+    
+    private static class Entry {
+        private final BitSet checked = new BitSet();
+        private final BitSet granted = new BitSet();
+    }
+
+}
+
@@ -0,0 +1,118 @@
+package com.pandora.holograms.manager;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.hologram.HologramTemplate;
+import com.pandora.holograms.storage.TemplateData;
+import com.pandora.holograms.storage.WriteBehindQueue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the hologram templates. They are stored by the configured storage backend
+ * through the same write-behind queue as the holograms.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class TemplateManager {
+    
+    private final PandoraHologramsPlugin plugin;
+    private final WriteBehindQueue saveQueue;
+    private final Map<String, HologramTemplate> templates;
+    
+    public TemplateManager(PandoraHologramsPlugin plugin, WriteBehindQueue saveQueue) {
+        this.plugin = plugin;
+        this.saveQueue = saveQueue;
+        this.templates = new TreeMap<>();
+    }
+    
+    /**
+     * Replace every template with the stored ones
+     * 
+     * @param stored The templates read from storage
+     */
+    public void load(List<TemplateData> stored) {
+        templates.clear();
+        for (TemplateData data : stored) {
+            templates.put(data.getName().toLowerCase(), new HologramTemplate(data.getName(), data.getLines()));
+        }
+        if (!templates.isEmpty()) {
+            plugin.getLogger().info("Loaded " + templates.size() + " hologram template(s)!");
+        }
+    }
+    
+    /**
+     * Queue a template for saving, e.g. after its lines changed
+     * 
+     * @param template The template to save
+     */
+    public void save(HologramTemplate template) {
+        if (templates.get(template.getName().toLowerCase()) == template) {
+            saveQueue.saveTemplate(template);
+        }
+    }
+    
+    /**
+     * Queue every template for saving
+     */
+    public void save() {
+        for (HologramTemplate template : templates.values()) {
+            saveQueue.saveTemplate(template);
+        }
+    }
+    
+    /**
+     * Create a template
+     * 
+     * @param name The template name
+     * @param lines The template lines
+     * @return The template, or null if the name is taken
+     */
+    public HologramTemplate createTemplate(String name, List<String> lines) {
+        if (templates.containsKey(name.toLowerCase())) {
+            return null;
+        }
+        HologramTemplate template = new HologramTemplate(name, lines);
+        templates.put(name.toLowerCase(), template);
+        saveQueue.saveTemplate(template);
+        return template;
+    }
+    
+    public HologramTemplate getTemplate(String name) {
+        return templates.get(name.toLowerCase());
+    }
+    
+    public Collection<HologramTemplate> getTemplates() {
+        return Collections.unmodifiableCollection(new ArrayList<>(templates.values()));
+    }
+    
+    /**
+     * Delete a template. Its instances keep their current lines as their own.
+     * 
+     * @param name The template name
+     * @return True if the template existed
+     */
+    public boolean deleteTemplate(String name) {
+        HologramTemplate template = templates.remove(name.toLowerCase());
+        if (template == null) {
+            return false;
+        }
+        HologramManager manager = plugin.getHologramManager();
+        for (Hologram instance : template.getInstances()) {
+            instance.detachTemplate();
+            if (manager != null) {
+                manager.saveHologram(instance.getName());
+            }
+        }
+        saveQueue.deleteTemplate(template.getName());
+        return true;
+    }
+
+}
+
@@ -0,0 +1,187 @@
+package com.pandora.holograms.manager;
+
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Tracks which holograms each player is in range of and shows or hides them incrementally.
+ * Updates are driven by player movement and by holograms spawning or moving.
+ * Holograms with a permission are only shown to players who have it.
+ * The chunk search radius is the largest display range of the tracked holograms,
+ * kept as a count per range so it shrinks again when a large range goes away.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class ViewTracker {
+    
+    private final ChunkIndex chunkIndex;
+    private final PermissionCache permissionCache;
+    private final Map<UUID, Set<Hologram>> shown;
+    private final Map<Hologram, Double> ranges;
+    private final TreeMap<Double, Integer> rangeCounts;
+    private final double defaultRange;
+    private double maxRange;
+    
+    public ViewTracker(ChunkIndex chunkIndex, PermissionCache permissionCache, double defaultRange) {
+        this.chunkIndex = chunkIndex;
+        this.permissionCache = permissionCache;
+        this.shown = new HashMap<>();
+        this.ranges = new IdentityHashMap<>();
+        this.rangeCounts = new TreeMap<>();
+        this.defaultRange = defaultRange;
+        this.maxRange = defaultRange;
+    }
+    
+    /**
+     * Recalculate the holograms a player can see from the given location
+     * 
+     * @param player The player to update
+     * @param location The player's (new) location
+     */
+    public void update(Player player, Location location) {
+        Set<Hologram> previous = shown.getOrDefault(player.getUniqueId(), Collections.emptySet());
+        Set<Hologram> next = new HashSet<>();
+        
+        World world = location.getWorld();
+        if (world != null) {
+            for (Hologram hologram : chunkIndex.getNearby(world, location.getX(), location.getZ(), maxRange)) {
+                if (hologram.isSpawned() && hologram.isInRange(location) && hologram.hasPermission(player)) {
+                    next.add(hologram);
+                    hologram.show(player);
+                }
+            }
+        }
+        
+        for (Hologram hologram : previous) {
+            if (!next.contains(hologram)) {
+                hologram.hide(player);
+            }
+        }
+        shown.put(player.getUniqueId(), next);
+    }
+    
+    /**
+     * Recalculate the viewers of a hologram, e.g. after it spawned, moved or changed range
+     * 
+     * @param hologram The hologram to update
+     */
+    public void refresh(Hologram hologram) {
+        trackRange(hologram, hologram.getDisplayRange());
+        if (!hologram.isSpawned()) {
+            return;
+        }
+        
+        World world = hologram.getLocation().getWorld();
+        Set<Player> inRange = new HashSet<>();
+        for (Player player : world.getPlayers()) {
+            if (hologram.isInRange(player.getLocation()) && hologram.hasPermission(player)) {
+                inRange.add(player);
+            }
+        }
+        
+        for (UUID uuid : new ArrayList<>(hologram.getViewers())) {
+            Set<Hologram> holograms = shown.get(uuid);
+            Player viewer = Bukkit.getPlayer(uuid);
+            if (viewer == null || !inRange.contains(viewer)) {
+                hologram.hide(uuid);
+                if (holograms != null) {
+                    holograms.remove(hologram);
+                }
+            }
+        }
+        for (Player player : inRange) {
+            hologram.show(player);
+            shown.computeIfAbsent(player.getUniqueId(), uuid -> new HashSet<>()).add(hologram);
+        }
+    }
+    
+    /**
+     * Forget a deleted hologram, dropping it from every player and from the search radius
+     * 
+     * @param hologram The hologram that was deleted
+     */
+    public void untrack(Hologram hologram) {
+        trackRange(hologram, Double.NaN);
+        for (Set<Hologram> holograms : shown.values()) {
+            holograms.remove(hologram);
+        }
+    }
+    
+    /**
+     * Record the display range of a hologram and recalculate the search radius
+     * 
+     * @param range The current range, or NaN to stop counting the hologram
+     */
+    private void trackRange(Hologram hologram, double range) {
+        Double previous = Double.isNaN(range) ? ranges.remove(hologram) : ranges.put(hologram, range);
+        if (previous != null && previous == range) {
+            return;
+        }
+        if (previous != null) {
+            rangeCounts.computeIfPresent(previous, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (!Double.isNaN(range)) {
+            rangeCounts.merge(range, 1, Integer::sum);
+        }
+        maxRange = rangeCounts.isEmpty() ? defaultRange : Math.max(defaultRange, rangeCounts.lastKey());
+    }
+    
+    /**
+     * Hide everything from a player and forget them
+     * 
+     * @param player The player to remove
+     */
+    public void remove(Player player) {
+        permissionCache.invalidate(player.getUniqueId());
+        Set<Hologram> holograms = shown.remove(player.getUniqueId());
+        if (holograms != null) {
+            for (Hologram hologram : holograms) {
+                hologram.hide(player);
+            }
+        }
+    }
+    
+    /**
+     * Hide everything from a player and recalculate from scratch, e.g. after the client
+     * dropped all entities on respawn
+     * 
+     * @param player The player to resend holograms to
+     */
+    public void resend(Player player) {
+        remove(player);
+        update(player, player.getLocation());
+    }
+    
+    /**
+     * Check a player's permissions again and show or hide permission-gated holograms to match
+     * 
+     * @param player The player whose permissions may have changed
+     */
+    public void recheckPermissions(Player player) {
+        permissionCache.invalidate(player.getUniqueId());
+        update(player, player.getLocation());
+    }
+    
+    public void clear() {
+        shown.clear();
+        ranges.clear();
+        rangeCounts.clear();
+        maxRange = defaultRange;
+        permissionCache.clear();
+    }
+
+}
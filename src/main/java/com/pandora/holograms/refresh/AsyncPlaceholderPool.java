@@ -0,0 +1,72 @@
+package com.pandora.holograms.refresh;
+
+import com.pandora.holograms.hologram.LineTemplate;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker threads that resolve placeholders of expansions listed as thread-safe in config.yml.
+ * Lines that use any other expansion are never sent here and stay on the main thread.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class AsyncPlaceholderPool {
+    
+    private final Set<String> expansions;
+    private final ExecutorService workers;
+    
+    public AsyncPlaceholderPool(Collection<String> expansions, int threads) {
+        this.expansions = new HashSet<>();
+        for (String expansion : expansions) {
+            this.expansions.add(expansion.toLowerCase());
+        }
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "PandoraHolograms-Placeholders-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Check if every placeholder of a template can be resolved by the pool
+     */
+    public boolean canResolve(LineTemplate template) {
+        return template.usesOnlyExpansions(expansions);
+    }
+    
+    /**
+     * Render a template for each player on a worker thread
+     * 
+     * @param template A template accepted by {@link #canResolve(LineTemplate)}
+     * @param players The players to render for
+     * @return A future completed on a worker thread with the rendered text by player
+     */
+    public CompletableFuture<Map<UUID, String>> render(LineTemplate template, List<Player> players) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<UUID, String> rendered = new HashMap<>();
+            for (Player player : players) {
+                rendered.put(player.getUniqueId(), template.render(player));
+            }
+            return rendered;
+        }, workers);
+    }
+    
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+}
+
@@ -0,0 +1,87 @@
+package com.pandora.holograms.refresh;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Turns the pages of holograms that have a page interval.
+ * Every viewer moves one page forward, so players who picked a page by hand keep their offset.
+ * Holograms that despawned or stopped cycling drop out on the next tick.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class PageCycler implements Runnable {
+    
+    private final PandoraHologramsPlugin plugin;
+    private final Map<Hologram, Long> subscribers;
+    private BukkitTask task;
+    private long tick;
+    
+    public PageCycler(PandoraHologramsPlugin plugin) {
+        this.plugin = plugin;
+        this.subscribers = new IdentityHashMap<>();
+    }
+    
+    public void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1L, 1L);
+        }
+    }
+    
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        subscribers.clear();
+    }
+    
+    /**
+     * Cycle the pages of a spawned hologram. The first page turn happens one interval from now.
+     * 
+     * @param hologram The hologram to cycle
+     */
+    public void subscribe(Hologram hologram) {
+        if (hologram.getPageInterval() > 0) {
+            subscribers.put(hologram, tick + hologram.getPageInterval());
+        }
+    }
+    
+    @Override
+    public void run() {
+        tick++;
+        Iterator<Map.Entry<Hologram, Long>> entries = subscribers.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Hologram, Long> entry = entries.next();
+            Hologram hologram = entry.getKey();
+            if (!hologram.isSpawned() || hologram.getPageInterval() <= 0 || hologram.getPageCount() < 2) {
+                entries.remove();
+                continue;
+            }
+            if (entry.getValue() > tick) {
+                continue;
+            }
+            
+            if (!hologram.getViewers().isEmpty()) {
+                hologram.nextPage();
+            }
+            entry.setValue(tick + hologram.getPageInterval());
+        }
+    }
+    
+    /**
+     * Get the number of holograms currently cycling
+     */
+    public int getCyclingCount() {
+        return subscribers.size();
+    }
+
+}
+
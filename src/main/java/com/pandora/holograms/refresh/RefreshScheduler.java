@@ -0,0 +1,231 @@
+package com.pandora.holograms.refresh;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.HologramLine;
+import com.pandora.holograms.hologram.LineHolder;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Refreshes dynamic hologram lines on the main thread.
+ * Only lines with placeholders are scheduled, each on its own interval, and the work
+ * done per tick is capped by a time budget. Lines that don't fit carry over to the next tick.
+ * Lines whose placeholders are all thread-safe are resolved on the placeholder pool instead,
+ * and the results are applied at the start of a later tick.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class RefreshScheduler implements Runnable {
+    
+    private final PandoraHologramsPlugin plugin;
+    private final long defaultInterval;
+    private final long budgetNanos;
+    private final PriorityQueue<Entry> queue;
+    private final Set<HologramLine> scheduled;
+    private final AsyncPlaceholderPool pool;
+    private final Queue<Resolved> resolved;
+    private BukkitTask task;
+    private long tick;
+    private long sequence;
+    
+    /**
+     * @param pool The pool for thread-safe placeholders, or null to resolve everything on the main thread
+     */
+    public RefreshScheduler(PandoraHologramsPlugin plugin, long defaultInterval, double budgetMillis, AsyncPlaceholderPool pool) {
+        this.plugin = plugin;
+        this.defaultInterval = defaultInterval;
+        this.budgetNanos = (long) (budgetMillis * 1_000_000L);
+        this.queue = new PriorityQueue<>();
+        this.scheduled = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.pool = pool;
+        this.resolved = new ConcurrentLinkedQueue<>();
+    }
+    
+    public void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1L, 1L);
+        }
+    }
+    
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+        scheduled.clear();
+        resolved.clear();
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+    
+    /**
+     * Schedule a line of a spawned hologram. Static lines and lines that are
+     * already scheduled are ignored.
+     * 
+     * @param holder The hologram or template the line belongs to
+     * @param line The line to refresh
+     */
+    public void schedule(LineHolder holder, HologramLine line) {
+        if (!line.isDynamic() || !scheduled.add(line)) {
+            return;
+        }
+        boolean async = pool != null && pool.canResolve(line.getTemplate());
+        queue.add(new Entry(holder, line, async, tick + getInterval(line), sequence++));
+    }
+    
+    @Override
+    public void run() {
+        tick++;
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        int refreshed = applyResolved();
+        
+        Entry entry;
+        while ((entry = queue.peek()) != null && entry.due <= tick) {
+            queue.poll();
+            
+            // Lines that were replaced or belong to a despawned hologram drop out here
+            int index = entry.holder.getLineIndex(entry.line);
+            if (index < 0 || !entry.holder.isSpawned()) {
+                scheduled.remove(entry.line);
+                continue;
+            }
+            
+            if (entry.pending) {
+                // The previous evaluation is still running, skip this round
+            } else if (entry.async) {
+                resolveAsync(entry);
+            } else if (!entry.holder.getViewers().isEmpty()) {
+                entry.holder.refreshLine(entry.line);
+                refreshed++;
+            }
+            
+            entry.due = tick + getInterval(entry.line);
+            entry.order = sequence++;
+            queue.add(entry);
+            
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        
+        // Idle ticks are not recorded so the timings reflect ticks that did work
+        if (refreshed > 0) {
+            plugin.getStats().recordRefreshCycle(System.nanoTime() - start, refreshed);
+        }
+    }
+    
+    /**
+     * Hand a line to the placeholder pool. Players are looked up here because the
+     * worker threads must not touch the server, only the placeholder expansions.
+     */
+    private void resolveAsync(Entry entry) {
+        List<Player> players = new ArrayList<>();
+        for (UUID uuid : entry.holder.getViewers()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                players.add(player);
+                // Shared displays only render the line once
+                if (!plugin.getRenderer().isPerPlayer()) {
+                    break;
+                }
+            }
+        }
+        if (players.isEmpty()) {
+            return;
+        }
+        
+        entry.pending = true;
+        pool.render(entry.line.getTemplate(), players).whenComplete((text, error) -> {
+            if (error != null) {
+                plugin.getLogger().warning("Failed to resolve placeholders off the main thread: " + error.getMessage());
+            }
+            resolved.add(new Resolved(entry, text));
+        });
+    }
+    
+    /**
+     * Apply the lines resolved by the placeholder pool since the last tick
+     * 
+     * @return The number of lines refreshed
+     */
+    private int applyResolved() {
+        int refreshed = 0;
+        Resolved result;
+        while ((result = resolved.poll()) != null) {
+            Entry entry = result.entry;
+            entry.pending = false;
+            int index = entry.holder.getLineIndex(entry.line);
+            if (index < 0 || !entry.holder.isSpawned()) {
+                continue;
+            }
+            if (result.text != null) {
+                entry.holder.refreshLine(entry.line, result.text);
+            } else {
+                entry.holder.refreshLine(entry.line);
+            }
+            refreshed++;
+        }
+        return refreshed;
+    }
+    
+    /**
+     * Get the number of lines currently scheduled
+     */
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+    
+    private long getInterval(HologramLine line) {
+        return line.getRefreshInterval() > 0 ? line.getRefreshInterval() : defaultInterval;
+    }
+    
+    private static class Entry implements Comparable<Entry> {
+        private final LineHolder holder;
+        private final HologramLine line;
+        private final boolean async;
+        private boolean pending;
+        private long due;
+        private long order;
+        
+        private Entry(LineHolder holder, HologramLine line, boolean async, long due, long order) {
+            this.holder = holder;
+            this.line = line;
+            this.async = async;
+            this.due = due;
+            this.order = order;
+        }
+        
+        @Override
+        public int compareTo(Entry other) {
+            int result = Long.compare(due, other.due);
+            return result != 0 ? result : Long.compare(order, other.order);
+        }
+    }
+    
+    private static class Resolved {
+        private final Entry entry;
+        private final Map<UUID, String> text;
+        
+        private Resolved(Entry entry, Map<UUID, String> text) {
+            this.entry = entry;
+            this.text = text;
+        }
+    }
+
+}
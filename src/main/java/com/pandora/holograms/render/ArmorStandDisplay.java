@@ -0,0 +1,218 @@
+package com.pandora.holograms.render;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.util.EulerAngle;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Displays a hologram using one invisible armor stand per line.
+ * On servers without per-player entity visibility (before 1.19.3) the stands are visible to everyone.
+ * Custom names are shared by all viewers, so placeholders are rendered once per line
+ * and per-player text needs the packet renderer.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class ArmorStandDisplay implements HologramDisplay {
+    
+    private static final boolean PER_PLAYER_VISIBILITY = hasPerPlayerVisibility();
+    
+    private final Hologram hologram;
+    private final List<ArmorStand> armorStands;
+    
+    public ArmorStandDisplay(Hologram hologram) {
+        this.hologram = hologram;
+        this.armorStands = new ArrayList<>();
+    }
+    
+    @Override
+    public void spawn() {
+        for (int i = 0; i < hologram.getLineCount(); i++) {
+            armorStands.add(spawnStand(hologram.getLineLocation(i), hologram.renderLine(i, null)));
+        }
+    }
+    
+    private ArmorStand spawnStand(Location lineLoc, String displayText) {
+        ArmorStand stand = (ArmorStand) lineLoc.getWorld().spawnEntity(lineLoc, EntityType.ARMOR_STAND);
+        
+        // Set all armor stand properties BEFORE making it invisible
+        stand.setGravity(false);
+        stand.setMarker(true);
+        stand.setSmall(true);
+        stand.setInvulnerable(true);
+        stand.setCanPickupItems(false);
+        stand.setCollidable(false);
+        stand.setBasePlate(false);
+        stand.setArms(false);
+        // Stands are recreated when their chunk loads, never save them with the chunk
+        stand.setPersistent(false);
+        // CRITICAL: Set head pose to prevent rotation issues
+        stand.setHeadPose(new EulerAngle(0, 0, 0));
+        stand.setBodyPose(new EulerAngle(0, 0, 0));
+        stand.setLeftArmPose(new EulerAngle(0, 0, 0));
+        stand.setRightArmPose(new EulerAngle(0, 0, 0));
+        stand.setLeftLegPose(new EulerAngle(0, 0, 0));
+        stand.setRightLegPose(new EulerAngle(0, 0, 0));
+        
+        // Set visibility and name AFTER all properties
+        stand.setVisible(false);
+        stand.setCustomNameVisible(true);
+        stand.setCustomName(displayText);
+        
+        if (PER_PLAYER_VISIBILITY) {
+            stand.setVisibleByDefault(false);
+            for (UUID uuid : hologram.getViewers()) {
+                Player viewer = Bukkit.getPlayer(uuid);
+                if (viewer != null) {
+                    viewer.showEntity(PandoraHologramsPlugin.getInstance(), stand);
+                }
+            }
+        }
+        return stand;
+    }
+    
+    @Override
+    public void despawn() {
+        for (ArmorStand stand : armorStands) {
+            if (stand != null && !stand.isDead()) {
+                stand.remove();
+            }
+        }
+        armorStands.clear();
+    }
+    
+    @Override
+    public void updateLine(int index) {
+        setName(armorStands.get(index), hologram.renderLine(index, getRenderPlayer()));
+    }
+    
+    @Override
+    public void insertLine(int index) {
+        armorStands.add(index, spawnStand(hologram.getLineLocation(index), hologram.renderLine(index, null)));
+        relayout();
+    }
+    
+    @Override
+    public void removeLine(int index) {
+        ArmorStand stand = armorStands.remove(index);
+        if (stand != null && !stand.isDead()) {
+            stand.remove();
+        }
+        relayout();
+    }
+    
+    @Override
+    public void sync(BitSet changed) {
+        int count = hologram.getLineCount();
+        while (armorStands.size() > count) {
+            ArmorStand stand = armorStands.remove(armorStands.size() - 1);
+            if (stand != null && !stand.isDead()) {
+                stand.remove();
+            }
+        }
+        
+        Player renderPlayer = getRenderPlayer();
+        for (int i = 0; i < count; i++) {
+            if (i >= armorStands.size()) {
+                armorStands.add(spawnStand(hologram.getLineLocation(i), hologram.renderLine(i, renderPlayer)));
+            } else if (changed.get(i)) {
+                setName(armorStands.get(i), hologram.renderLine(i, renderPlayer));
+            }
+        }
+        relayout();
+    }
+    
+    @Override
+    public void relayout() {
+        for (int i = 0; i < armorStands.size(); i++) {
+            ArmorStand stand = armorStands.get(i);
+            if (stand == null || stand.isDead()) {
+                continue;
+            }
+            Location target = hologram.getLineLocation(i);
+            Location current = stand.getLocation();
+            if (current.getX() != target.getX() || current.getY() != target.getY() || current.getZ() != target.getZ()) {
+                stand.teleport(target);
+            }
+        }
+    }
+    
+    @Override
+    public void show(Player player) {
+        if (!PER_PLAYER_VISIBILITY) {
+            return;
+        }
+        for (ArmorStand stand : armorStands) {
+            player.showEntity(PandoraHologramsPlugin.getInstance(), stand);
+        }
+    }
+    
+    @Override
+    public void hide(Player player) {
+        if (!PER_PLAYER_VISIBILITY) {
+            return;
+        }
+        for (ArmorStand stand : armorStands) {
+            player.hideEntity(PandoraHologramsPlugin.getInstance(), stand);
+        }
+    }
+    
+    @Override
+    public void update(Player player) {
+        if (armorStands.size() != hologram.getLineCount()) {
+            despawn();
+            spawn();
+            return;
+        }
+        
+        // The stands are shared by all viewers, never render them for the player passed in
+        Player renderPlayer = getRenderPlayer();
+        for (int i = 0; i < armorStands.size(); i++) {
+            setName(armorStands.get(i), hologram.renderLine(i, renderPlayer));
+        }
+    }
+    
+    /**
+     * Set the name of a stand, skipping the update if the name didn't change
+     */
+    private void setName(ArmorStand stand, String text) {
+        if (stand != null && !stand.isDead() && !text.equals(stand.getCustomName())) {
+            stand.setCustomName(text);
+        }
+    }
+    
+    /**
+     * Armor stand names are shared by all viewers, so placeholders are rendered for one of them.
+     * The first viewer is used consistently instead of whoever refreshed last.
+     */
+    private Player getRenderPlayer() {
+        for (UUID uuid : hologram.getViewers()) {
+            Player viewer = Bukkit.getPlayer(uuid);
+            if (viewer != null) {
+                return viewer;
+            }
+        }
+        return null;
+    }
+    
+    private static boolean hasPerPlayerVisibility() {
+        try {
+            Entity.class.getMethod("setVisibleByDefault", boolean.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
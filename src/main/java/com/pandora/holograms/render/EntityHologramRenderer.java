@@ -0,0 +1,29 @@
+package com.pandora.holograms.render;
+
+import com.pandora.holograms.hologram.Hologram;
+
+/**
+ * Renderer that uses real, server-side armor stands.
+ * Used when ProtocolLib is not installed.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class EntityHologramRenderer implements HologramRenderer {
+    
+    @Override
+    public String getName() {
+        return "entity";
+    }
+    
+    @Override
+    public boolean isPerPlayer() {
+        return false;
+    }
+    
+    @Override
+    public HologramDisplay createDisplay(Hologram hologram) {
+        return new ArmorStandDisplay(hologram);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.pandora.holograms.render;
+
+import org.bukkit.entity.Player;
+
+import java.util.BitSet;
+
+/**
+ * The rendered form of a single hologram.
+ * Implementations decide how lines reach the client (entities, packets, ...).
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public interface HologramDisplay {
+    
+    /**
+     * Create the display and send it to the current viewers of the hologram
+     */
+    void spawn();
+    
+    /**
+     * Remove the display for everyone
+     */
+    void despawn();
+    
+    /**
+     * Send the display to a player who just became a viewer
+     */
+    void show(Player player);
+    
+    /**
+     * Remove the display from a player who is no longer a viewer
+     */
+    void hide(Player player);
+    
+    /**
+     * Re-render the text of a single line
+     * 
+     * @param index The line index
+     */
+    void updateLine(int index);
+    
+    /**
+     * Add the line that was inserted into the hologram at the given index.
+     * Lines that moved because of the insert are repositioned.
+     * 
+     * @param index The index of the new line
+     */
+    void insertLine(int index);
+    
+    /**
+     * Remove the line that was removed from the hologram at the given index.
+     * Lines that moved because of the removal are repositioned.
+     * 
+     * @param index The index of the removed line
+     */
+    void removeLine(int index);
+    
+    /**
+     * Apply a batch of line changes at once. Lines are added or removed at the bottom until
+     * the count matches the hologram, changed lines are re-rendered and everything is
+     * repositioned once.
+     * 
+     * @param changed The indexes of lines whose text changed
+     */
+    void sync(BitSet changed);
+    
+    /**
+     * Move every line to its current position, e.g. after the location or line height changed.
+     * Lines that are already in place are left untouched.
+     */
+    void relayout();
+    
+    /**
+     * Re-render the text of every line
+     * 
+     * @param player The player to render placeholders for, or null for every viewer
+     */
+    void update(Player player);
+
+}
@@ -0,0 +1,36 @@
+package com.pandora.holograms.render;
+
+import com.pandora.holograms.hologram.Hologram;
+
+/**
+ * A rendering backend for holograms.
+ * Each spawned hologram gets its own display from the active renderer.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public interface HologramRenderer {
+    
+    /**
+     * Get the name of this renderer, as used in config.yml
+     * 
+     * @return The renderer name
+     */
+    String getName();
+    
+    /**
+     * Check if lines are rendered separately for every viewer, or once and shared by all viewers
+     * 
+     * @return True if every viewer gets their own placeholder values
+     */
+    boolean isPerPlayer();
+    
+    /**
+     * Create a display for the given hologram. The display is not spawned yet.
+     * 
+     * @param hologram The hologram to render
+     * @return A new display bound to the hologram
+     */
+    HologramDisplay createDisplay(Hologram hologram);
+
+}
@@ -0,0 +1,302 @@
+package com.pandora.holograms.render;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Displays a hologram with fake armor stands that only exist on the viewers' clients.
+ * Each line is one fake entity; spawn, metadata and destroy packets are sent per viewer.
+ * Every viewer gets the line rendered for them, and unchanged text is never resent.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class PacketHologramDisplay implements HologramDisplay {
+    
+    // Armor stand metadata indices (1.20.x)
+    private static final int INDEX_ENTITY_FLAGS = 0;
+    private static final int INDEX_CUSTOM_NAME = 2;
+    private static final int INDEX_CUSTOM_NAME_VISIBLE = 3;
+    private static final int INDEX_NO_GRAVITY = 5;
+    private static final int INDEX_ARMOR_STAND_FLAGS = 15;
+    
+    private static final byte FLAG_INVISIBLE = 0x20;
+    private static final byte FLAG_SMALL = 0x01;
+    private static final byte FLAG_NO_BASE_PLATE = 0x08;
+    private static final byte FLAG_MARKER = 0x10;
+    
+    private final Hologram hologram;
+    private final ProtocolManager protocolManager;
+    private final List<Line> lines;
+    
+    public PacketHologramDisplay(Hologram hologram, ProtocolManager protocolManager) {
+        this.hologram = hologram;
+        this.protocolManager = protocolManager;
+        this.lines = new ArrayList<>();
+    }
+    
+    @Override
+    public void spawn() {
+        for (int i = 0; i < hologram.getLineCount(); i++) {
+            lines.add(new Line(PacketHologramRenderer.nextEntityId(), hologram.getLineLocation(i)));
+        }
+        for (Player player : getViewers()) {
+            show(player);
+        }
+    }
+    
+    @Override
+    public void despawn() {
+        if (!lines.isEmpty()) {
+            PacketContainer destroy = createDestroyPacket(getEntityIds());
+            for (Player player : getViewers()) {
+                protocolManager.sendServerPacket(player, destroy);
+            }
+        }
+        lines.clear();
+    }
+    
+    @Override
+    public void show(Player player) {
+        for (int i = 0; i < lines.size(); i++) {
+            spawnLine(player, i);
+        }
+    }
+    
+    @Override
+    public void hide(Player player) {
+        if (!lines.isEmpty()) {
+            protocolManager.sendServerPacket(player, createDestroyPacket(getEntityIds()));
+        }
+        for (Line line : lines) {
+            line.sentText.remove(player.getUniqueId());
+        }
+    }
+    
+    @Override
+    public void updateLine(int index) {
+        for (Player player : getViewers()) {
+            sendText(player, index);
+        }
+    }
+    
+    @Override
+    public void insertLine(int index) {
+        lines.add(index, new Line(PacketHologramRenderer.nextEntityId(), hologram.getLineLocation(index)));
+        for (Player player : getViewers()) {
+            spawnLine(player, index);
+        }
+        relayout();
+    }
+    
+    @Override
+    public void removeLine(int index) {
+        Line line = lines.remove(index);
+        PacketContainer destroy = createDestroyPacket(Collections.singletonList(line.entityId));
+        for (Player player : getViewers()) {
+            protocolManager.sendServerPacket(player, destroy);
+        }
+        relayout();
+    }
+    
+    @Override
+    public void sync(BitSet changed) {
+        List<Player> viewers = getViewers();
+        int count = hologram.getLineCount();
+        if (lines.size() > count) {
+            List<Line> removed = lines.subList(count, lines.size());
+            List<Integer> ids = new ArrayList<>(removed.size());
+            for (Line line : removed) {
+                ids.add(line.entityId);
+            }
+            PacketContainer destroy = createDestroyPacket(ids);
+            for (Player player : viewers) {
+                protocolManager.sendServerPacket(player, destroy);
+            }
+            removed.clear();
+        }
+        
+        int existing = lines.size();
+        for (int i = existing; i < count; i++) {
+            lines.add(new Line(PacketHologramRenderer.nextEntityId(), hologram.getLineLocation(i)));
+        }
+        for (Player player : viewers) {
+            for (int i = 0; i < count; i++) {
+                if (i >= existing) {
+                    spawnLine(player, i);
+                } else if (changed.get(i)) {
+                    sendText(player, i);
+                }
+            }
+        }
+        relayout();
+    }
+    
+    @Override
+    public void relayout() {
+        List<Player> viewers = getViewers();
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            Location target = hologram.getLineLocation(i);
+            if (line.location.getX() == target.getX() && line.location.getY() == target.getY()
+                    && line.location.getZ() == target.getZ()) {
+                continue;
+            }
+            line.location = target;
+            PacketContainer teleport = createTeleportPacket(line.entityId, target);
+            for (Player player : viewers) {
+                protocolManager.sendServerPacket(player, teleport);
+            }
+        }
+    }
+    
+    @Override
+    public void update(Player player) {
+        if (lines.size() != hologram.getLineCount()) {
+            despawn();
+            spawn();
+            return;
+        }
+        
+        if (player != null) {
+            updateFor(player);
+        } else {
+            for (Player viewer : getViewers()) {
+                updateFor(viewer);
+            }
+        }
+    }
+    
+    private void updateFor(Player player) {
+        for (int i = 0; i < lines.size(); i++) {
+            sendText(player, i);
+        }
+    }
+    
+    /**
+     * Render a line for one viewer and send it, unless the viewer already has that exact text
+     */
+    private void sendText(Player player, int index) {
+        Line line = lines.get(index);
+        String text = hologram.renderLine(index, player);
+        String previous = line.sentText.put(player.getUniqueId(), text);
+        if (!text.equals(previous)) {
+            protocolManager.sendServerPacket(player, createMetadataPacket(line.entityId, text, false));
+        }
+    }
+    
+    private void spawnLine(Player player, int index) {
+        Line line = lines.get(index);
+        String text = hologram.renderLine(index, player);
+        line.sentText.put(player.getUniqueId(), text);
+        protocolManager.sendServerPacket(player, createSpawnPacket(line.entityId, line.location));
+        protocolManager.sendServerPacket(player, createMetadataPacket(line.entityId, text, true));
+    }
+    
+    private List<Integer> getEntityIds() {
+        List<Integer> ids = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            ids.add(line.entityId);
+        }
+        return ids;
+    }
+    
+    private List<Player> getViewers() {
+        List<Player> players = new ArrayList<>();
+        for (UUID uuid : hologram.getViewers()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+    
+    private PacketContainer createSpawnPacket(int entityId, Location location) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, UUID.randomUUID());
+        packet.getEntityTypeModifier().write(0, EntityType.ARMOR_STAND);
+        packet.getDoubles()
+                .write(0, location.getX())
+                .write(1, location.getY())
+                .write(2, location.getZ());
+        return packet;
+    }
+    
+    /**
+     * Build a metadata packet for one line
+     * 
+     * @param full True to include the static armor stand flags (only needed right after spawning)
+     */
+    private PacketContainer createMetadataPacket(int entityId, String text, boolean full) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        
+        List<WrappedDataValue> values = new ArrayList<>();
+        if (full) {
+            values.add(new WrappedDataValue(INDEX_ENTITY_FLAGS, WrappedDataWatcher.Registry.get(Byte.class), FLAG_INVISIBLE));
+            values.add(new WrappedDataValue(INDEX_CUSTOM_NAME_VISIBLE, WrappedDataWatcher.Registry.get(Boolean.class), true));
+            values.add(new WrappedDataValue(INDEX_NO_GRAVITY, WrappedDataWatcher.Registry.get(Boolean.class), true));
+            values.add(new WrappedDataValue(INDEX_ARMOR_STAND_FLAGS, WrappedDataWatcher.Registry.get(Byte.class),
+                    (byte) (FLAG_SMALL | FLAG_NO_BASE_PLATE | FLAG_MARKER)));
+        }
+        values.add(new WrappedDataValue(INDEX_CUSTOM_NAME, WrappedDataWatcher.Registry.getChatComponentSerializer(true),
+                Optional.of(WrappedChatComponent.fromLegacyText(text).getHandle())));
+        
+        packet.getDataValueCollectionModifier().write(0, values);
+        return packet;
+    }
+    
+    private PacketContainer createTeleportPacket(int entityId, Location location) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_TELEPORT);
+        packet.getIntegers().write(0, entityId);
+        packet.getDoubles()
+                .write(0, location.getX())
+                .write(1, location.getY())
+                .write(2, location.getZ());
+        packet.getBooleans().write(0, false);
+        return packet;
+    }
+    
+    private PacketContainer createDestroyPacket(List<Integer> ids) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        packet.getIntLists().write(0, new ArrayList<>(ids));
+        return packet;
+    }
+    
+    /**
+     * A fake armor stand for one line, the position the viewers last received
+     * and the text each viewer last received
+     */
+    private static class Line {
+        private final int entityId;
+        private final Map<UUID, String> sentText;
+        private Location location;
+        
+        private Line(int entityId, Location location) {
+            this.entityId = entityId;
+            this.sentText = new HashMap<>();
+            this.location = location;
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.pandora.holograms.render;
+
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.pandora.holograms.hologram.Hologram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renderer that sends armor stand packets to each viewer through ProtocolLib.
+ * No entities exist on the server, so holograms are never ticked or saved with chunks.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class PacketHologramRenderer implements HologramRenderer {
+    
+    // Fake entity ids are taken from a range the server will not reach in practice
+    private static final AtomicInteger NEXT_ENTITY_ID = new AtomicInteger(2_000_000_000);
+    
+    private final ProtocolManager protocolManager;
+    
+    public PacketHologramRenderer() {
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+    }
+    
+    @Override
+    public String getName() {
+        return "packet";
+    }
+    
+    @Override
+    public boolean isPerPlayer() {
+        return true;
+    }
+    
+    @Override
+    public HologramDisplay createDisplay(Hologram hologram) {
+        return new PacketHologramDisplay(hologram, protocolManager);
+    }
+    
+    static int nextEntityId() {
+        return NEXT_ENTITY_ID.getAndIncrement();
+    }
+
+}
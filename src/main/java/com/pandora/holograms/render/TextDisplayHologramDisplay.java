@@ -0,0 +1,212 @@
+package com.pandora.holograms.render;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Displays a hologram as one TextDisplay entity with newline-joined lines.
+ * The entity sits at the hologram location and the text grows upwards from there,
+ * so the line height setting does not apply. Like armor stands, the text is shared by all viewers.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class TextDisplayHologramDisplay implements HologramDisplay {
+    
+    private static final boolean TELEPORT_INTERPOLATION = hasTeleportInterpolation();
+    
+    private final Hologram hologram;
+    private final Display.Billboard billboard;
+    private final float scale;
+    private final Color background;
+    private final boolean shadow;
+    private final int moveInterpolation;
+    private final List<String> rendered;
+    private TextDisplay entity;
+    
+    public TextDisplayHologramDisplay(Hologram hologram, Display.Billboard billboard, float scale,
+                                      Color background, boolean shadow, int moveInterpolation) {
+        this.hologram = hologram;
+        this.billboard = billboard;
+        this.scale = scale;
+        this.background = background;
+        this.shadow = shadow;
+        this.moveInterpolation = moveInterpolation;
+        this.rendered = new ArrayList<>();
+    }
+    
+    @Override
+    public void spawn() {
+        Location location = hologram.getLocation();
+        Player renderPlayer = getRenderPlayer();
+        for (int i = 0; i < hologram.getLineCount(); i++) {
+            rendered.add(hologram.renderLine(i, renderPlayer));
+        }
+        
+        entity = (TextDisplay) location.getWorld().spawnEntity(location, EntityType.TEXT_DISPLAY);
+        // Recreated when the chunk loads, never save it with the chunk
+        entity.setPersistent(false);
+        entity.setBillboard(billboard);
+        entity.setAlignment(TextDisplay.TextAlignment.CENTER);
+        entity.setShadowed(shadow);
+        if (background != null) {
+            entity.setBackgroundColor(background);
+        } else {
+            entity.setDefaultBackground(true);
+        }
+        if (scale != 1.0f) {
+            entity.setTransformation(new Transformation(new Vector3f(), new AxisAngle4f(),
+                    new Vector3f(scale, scale, scale), new AxisAngle4f()));
+        }
+        if (TELEPORT_INTERPOLATION && moveInterpolation > 0) {
+            entity.setTeleportDuration(moveInterpolation);
+        }
+        entity.setText(String.join("\n", rendered));
+        
+        entity.setVisibleByDefault(false);
+        for (UUID uuid : hologram.getViewers()) {
+            Player viewer = Bukkit.getPlayer(uuid);
+            if (viewer != null) {
+                viewer.showEntity(PandoraHologramsPlugin.getInstance(), entity);
+            }
+        }
+    }
+    
+    @Override
+    public void despawn() {
+        if (entity != null && !entity.isDead()) {
+            entity.remove();
+        }
+        entity = null;
+        rendered.clear();
+    }
+    
+    @Override
+    public void show(Player player) {
+        if (entity != null) {
+            player.showEntity(PandoraHologramsPlugin.getInstance(), entity);
+        }
+    }
+    
+    @Override
+    public void hide(Player player) {
+        if (entity != null) {
+            player.hideEntity(PandoraHologramsPlugin.getInstance(), entity);
+        }
+    }
+    
+    @Override
+    public void updateLine(int index) {
+        rendered.set(index, hologram.renderLine(index, getRenderPlayer()));
+        pushText();
+    }
+    
+    @Override
+    public void insertLine(int index) {
+        rendered.add(index, hologram.renderLine(index, getRenderPlayer()));
+        pushText();
+    }
+    
+    @Override
+    public void removeLine(int index) {
+        rendered.remove(index);
+        pushText();
+    }
+    
+    @Override
+    public void sync(BitSet changed) {
+        int count = hologram.getLineCount();
+        while (rendered.size() > count) {
+            rendered.remove(rendered.size() - 1);
+        }
+        
+        Player renderPlayer = getRenderPlayer();
+        for (int i = 0; i < count; i++) {
+            if (i >= rendered.size()) {
+                rendered.add(hologram.renderLine(i, renderPlayer));
+            } else if (changed.get(i)) {
+                rendered.set(i, hologram.renderLine(i, renderPlayer));
+            }
+        }
+        pushText();
+    }
+    
+    @Override
+    public void relayout() {
+        if (entity == null || entity.isDead()) {
+            return;
+        }
+        Location target = hologram.getLocation();
+        Location current = entity.getLocation();
+        if (current.getX() != target.getX() || current.getY() != target.getY() || current.getZ() != target.getZ()) {
+            // Interpolated over move-interpolation ticks on 1.20.2+
+            entity.teleport(target);
+        }
+    }
+    
+    /**
+     * The entity is shared by all viewers, so the text is always rendered for the same viewer,
+     * never for the player passed in
+     */
+    @Override
+    public void update(Player player) {
+        Player renderPlayer = getRenderPlayer();
+        rendered.clear();
+        for (int i = 0; i < hologram.getLineCount(); i++) {
+            rendered.add(hologram.renderLine(i, renderPlayer));
+        }
+        pushText();
+    }
+    
+    /**
+     * Join the rendered lines and send them, skipping the update if nothing changed
+     */
+    private void pushText() {
+        if (entity == null || entity.isDead()) {
+            return;
+        }
+        String text = String.join("\n", rendered);
+        if (!text.equals(entity.getText())) {
+            entity.setText(text);
+        }
+    }
+    
+    /**
+     * The text is shared by all viewers, so placeholders are rendered for the first one
+     */
+    private Player getRenderPlayer() {
+        for (UUID uuid : hologram.getViewers()) {
+            Player viewer = Bukkit.getPlayer(uuid);
+            if (viewer != null) {
+                return viewer;
+            }
+        }
+        return null;
+    }
+    
+    private static boolean hasTeleportInterpolation() {
+        try {
+            Display.class.getMethod("setTeleportDuration", int.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
+
@@ -0,0 +1,87 @@
+package com.pandora.holograms.render;
+
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Color;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Display;
+
+/**
+ * Renderer that shows a whole hologram as a single TextDisplay entity (1.19.4+).
+ * Lines are joined with newlines, so every hologram costs one entity regardless of its line count.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class TextDisplayRenderer implements HologramRenderer {
+    
+    private final Display.Billboard billboard;
+    private final float scale;
+    private final Color background;
+    private final boolean shadow;
+    private final int moveInterpolation;
+    
+    public TextDisplayRenderer(ConfigurationSection config) {
+        this.billboard = parseBillboard(config != null ? config.getString("billboard", "CENTER") : "CENTER");
+        this.scale = config != null ? (float) config.getDouble("scale", 1.0) : 1.0f;
+        this.background = parseBackground(config != null ? config.getString("background", "default") : "default");
+        this.shadow = config != null && config.getBoolean("shadow", false);
+        this.moveInterpolation = config != null ? Math.max(0, config.getInt("move-interpolation", 3)) : 3;
+    }
+    
+    @Override
+    public String getName() {
+        return "display";
+    }
+    
+    @Override
+    public boolean isPerPlayer() {
+        return false;
+    }
+    
+    @Override
+    public HologramDisplay createDisplay(Hologram hologram) {
+        return new TextDisplayHologramDisplay(hologram, billboard, scale, background, shadow, moveInterpolation);
+    }
+    
+    /**
+     * Check if the server has display entities
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName("org.bukkit.entity.TextDisplay");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+    
+    private static Display.Billboard parseBillboard(String value) {
+        try {
+            return Display.Billboard.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Display.Billboard.CENTER;
+        }
+    }
+    
+    /**
+     * Parse a background colour: "default" for the vanilla background, "transparent",
+     * or an ARGB hex colour such as 40000000
+     * 
+     * @return The colour, or null for the vanilla background
+     */
+    private static Color parseBackground(String value) {
+        if (value == null || value.equalsIgnoreCase("default")) {
+            return null;
+        }
+        if (value.equalsIgnoreCase("transparent")) {
+            return Color.fromARGB(0);
+        }
+        try {
+            return Color.fromARGB((int) Long.parseLong(value.replace("#", ""), 16));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
+
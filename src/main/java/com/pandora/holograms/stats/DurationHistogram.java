@@ -0,0 +1,89 @@
+package com.pandora.holograms.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations with power-of-two microsecond buckets.
+ * Recording is a handful of atomic adds, percentiles are approximated by bucket upper bounds.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class DurationHistogram {
+    
+    // Bucket i holds durations below 2^i microseconds, the last bucket holds everything longer
+    private static final int BUCKETS = 24;
+    
+    private final AtomicLongArray buckets;
+    private final AtomicLong count;
+    private final AtomicLong totalNanos;
+    private final AtomicLong maxNanos;
+    
+    public DurationHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.count = new AtomicLong();
+        this.totalNanos = new AtomicLong();
+        this.maxNanos = new AtomicLong();
+    }
+    
+    /**
+     * Record one duration
+     * 
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0L, nanos / 1_000L);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+    
+    public long getCount() {
+        return count.get();
+    }
+    
+    public double getMeanMillis() {
+        long samples = count.get();
+        return samples == 0 ? 0.0 : totalNanos.get() / (double) samples / 1_000_000.0;
+    }
+    
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+    
+    /**
+     * Get an upper bound for the given percentile
+     * 
+     * @param percentile Between 0 and 100
+     * @return The upper bound of the bucket holding that percentile, in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        long samples = count.get();
+        if (samples == 0) {
+            return 0.0;
+        }
+        long target = (long) Math.ceil(samples * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min((1L << i) / 1_000.0, getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+    
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0L);
+        }
+        count.set(0L);
+        totalNanos.set(0L);
+        maxNanos.set(0L);
+    }
+
+}
+
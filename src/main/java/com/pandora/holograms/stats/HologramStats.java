@@ -0,0 +1,141 @@
+package com.pandora.holograms.stats;
+
+import com.pandora.holograms.hologram.LineTemplate;
+import com.pandora.holograms.util.GlobalPlaceholderCache;
+import com.pandora.holograms.util.PlaceholderUtil;
+import com.pandora.holograms.util.TextCache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings for the work PandoraHolograms does.
+ * Everything is recorded with atomic adds so it is cheap enough to leave on permanently.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramStats {
+    
+    private final LongAdder spawns;
+    private final LongAdder despawns;
+    private final LongAdder linesRefreshed;
+    private final DurationHistogram refreshCycles;
+    private final DurationHistogram storageFlushes;
+    private volatile int lastCycleLines;
+    private volatile long placeholderBaseline;
+    private volatile long since;
+    
+    public HologramStats() {
+        this.spawns = new LongAdder();
+        this.despawns = new LongAdder();
+        this.linesRefreshed = new LongAdder();
+        this.refreshCycles = new DurationHistogram();
+        this.storageFlushes = new DurationHistogram();
+        this.placeholderBaseline = PlaceholderUtil.getEvaluationCount();
+        this.since = System.currentTimeMillis();
+    }
+    
+    public void recordSpawn() {
+        spawns.increment();
+    }
+    
+    public void recordDespawn() {
+        despawns.increment();
+    }
+    
+    /**
+     * Record one tick of the refresh scheduler that did work
+     * 
+     * @param nanos Time spent in the tick
+     * @param lines Number of lines re-rendered
+     */
+    public void recordRefreshCycle(long nanos, int lines) {
+        refreshCycles.record(nanos);
+        linesRefreshed.add(lines);
+        lastCycleLines = lines;
+    }
+    
+    /**
+     * Record one batch written by the storage thread
+     * 
+     * @param nanos Time spent writing
+     */
+    public void recordStorageFlush(long nanos) {
+        storageFlushes.record(nanos);
+    }
+    
+    public long getSpawns() {
+        return spawns.sum();
+    }
+    
+    public long getDespawns() {
+        return despawns.sum();
+    }
+    
+    public long getLinesRefreshed() {
+        return linesRefreshed.sum();
+    }
+    
+    public int getLastCycleLines() {
+        return lastCycleLines;
+    }
+    
+    public double getAverageLinesPerCycle() {
+        long cycles = refreshCycles.getCount();
+        return cycles == 0 ? 0.0 : linesRefreshed.sum() / (double) cycles;
+    }
+    
+    public long getPlaceholderEvaluations() {
+        return PlaceholderUtil.getEvaluationCount() - placeholderBaseline;
+    }
+    
+    /**
+     * Get the cache of player-independent placeholder values
+     * 
+     * @return The cache, or null if global placeholders are disabled
+     */
+    public GlobalPlaceholderCache getGlobalPlaceholderCache() {
+        return PlaceholderUtil.getGlobalCache();
+    }
+    
+    /**
+     * Get the shared cache of compiled hologram lines
+     */
+    public TextCache<LineTemplate> getTemplateCache() {
+        return LineTemplate.getCache();
+    }
+    
+    public DurationHistogram getRefreshCycles() {
+        return refreshCycles;
+    }
+    
+    public DurationHistogram getStorageFlushes() {
+        return storageFlushes;
+    }
+    
+    /**
+     * Get when the counters were last reset
+     * 
+     * @return Epoch milliseconds
+     */
+    public long getSince() {
+        return since;
+    }
+    
+    public void reset() {
+        spawns.reset();
+        despawns.reset();
+        linesRefreshed.reset();
+        refreshCycles.reset();
+        storageFlushes.reset();
+        LineTemplate.getCache().resetCounters();
+        if (PlaceholderUtil.getGlobalCache() != null) {
+            PlaceholderUtil.getGlobalCache().resetCounters();
+        }
+        lastCycleLines = 0;
+        placeholderBaseline = PlaceholderUtil.getEvaluationCount();
+        since = System.currentTimeMillis();
+    }
+
+}
+
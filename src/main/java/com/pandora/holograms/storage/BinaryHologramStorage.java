@@ -0,0 +1,400 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores holograms in a compact binary snapshot (holograms.bin).
+ * World names, lines and permissions are written once to a string table and referenced by index,
+ * so loading is one sequential read without any per-key lookups.
+ * 
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * int    magic "PHLG"
+ * short  version
+ * int    string count, then per string: int byte length, UTF-8 bytes
+ * int    hologram count, then per hologram:
+ *        int name, int world, double x, double y, double z,
+ *        int permission (-1 for none), double line height, double display range (NaN for default),
+ *        int line count, int line...,
+ *        int page count, then per page after the first: int line count, int line...,
+ *        int page interval (version 2 and later),
+ *        int template (-1 for none), int override count, then per override: int index, int line (version 3 and later)
+ * </pre>
+ * 
+ * <p>Templates are kept in templates.bin: int magic "PHTP", short version, int template count,
+ * then per template: string name, int line count, string line..., where a string is int byte length, UTF-8 bytes.</p>
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class BinaryHologramStorage implements HologramStorage {
+    
+    private static final int MAGIC = 0x50484C47;
+    private static final short VERSION = 3;
+    private static final int TEMPLATES_MAGIC = 0x50485450;
+    private static final short TEMPLATES_VERSION = 1;
+    
+    private final PandoraHologramsPlugin plugin;
+    private final File snapshotFile;
+    private final Map<String, HologramData> snapshot;
+    private boolean loaded;
+    private boolean unreadable;
+    private final File templatesFile;
+    private final Map<String, TemplateData> templates;
+    private boolean templatesLoaded;
+    private boolean templatesUnreadable;
+    
+    public BinaryHologramStorage(PandoraHologramsPlugin plugin) {
+        this.plugin = plugin;
+        this.snapshotFile = new File(plugin.getDataFolder(), "holograms.bin");
+        this.snapshot = new LinkedHashMap<>();
+        this.templatesFile = new File(plugin.getDataFolder(), "templates.bin");
+        this.templates = new LinkedHashMap<>();
+        
+        if (!plugin.getDataFolder().exists()) {
+            plugin.getDataFolder().mkdirs();
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "binary";
+    }
+    
+    @Override
+    public synchronized List<HologramData> loadAll() {
+        snapshot.clear();
+        loaded = true;
+        unreadable = false;
+        
+        if (snapshotFile.exists()) {
+            try {
+                for (HologramData data : read(ByteBuffer.wrap(Files.readAllBytes(snapshotFile.toPath())))) {
+                    snapshot.put(data.getName().toLowerCase(), data);
+                }
+            } catch (IOException | RuntimeException e) {
+                // Never overwrite a snapshot we could not read, it may come from a newer version
+                unreadable = true;
+                plugin.getLogger().severe("Failed to read holograms.bin, changes will not be saved until it is fixed!");
+                e.printStackTrace();
+            }
+        }
+        return new ArrayList<>(snapshot.values());
+    }
+    
+    /**
+     * Apply saved and deleted holograms to the snapshot and rewrite holograms.bin atomically
+     */
+    @Override
+    public synchronized void write(Collection<HologramData> saves, Collection<String> deletes) throws IOException {
+        if (!loaded) {
+            loadAll();
+        }
+        if (unreadable) {
+            throw new IOException("holograms.bin could not be read, it is not overwritten until it is fixed");
+        }
+        
+        for (String name : deletes) {
+            snapshot.remove(name.toLowerCase());
+        }
+        for (HologramData data : saves) {
+            snapshot.put(data.getName().toLowerCase(), data);
+        }
+        
+        writeAtomically(snapshotFile, encode(snapshot.values()));
+    }
+    
+    @Override
+    public synchronized List<TemplateData> loadTemplates() {
+        templates.clear();
+        templatesLoaded = true;
+        templatesUnreadable = false;
+        
+        if (templatesFile.exists()) {
+            try {
+                for (TemplateData data : readTemplates(ByteBuffer.wrap(Files.readAllBytes(templatesFile.toPath())))) {
+                    templates.put(data.getName().toLowerCase(), data);
+                }
+            } catch (IOException | RuntimeException e) {
+                templatesUnreadable = true;
+                plugin.getLogger().severe("Failed to read templates.bin, template changes will not be saved until it is fixed!");
+                e.printStackTrace();
+            }
+        }
+        return new ArrayList<>(templates.values());
+    }
+    
+    @Override
+    public synchronized void writeTemplates(Collection<TemplateData> saves, Collection<String> deletes) throws IOException {
+        if (!templatesLoaded) {
+            loadTemplates();
+        }
+        if (templatesUnreadable) {
+            throw new IOException("templates.bin could not be read, it is not overwritten until it is fixed");
+        }
+        
+        for (String name : deletes) {
+            templates.remove(name.toLowerCase());
+        }
+        for (TemplateData data : saves) {
+            templates.put(data.getName().toLowerCase(), data);
+        }
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(TEMPLATES_MAGIC);
+        out.writeShort(TEMPLATES_VERSION);
+        out.writeInt(templates.size());
+        for (TemplateData data : templates.values()) {
+            writeString(out, data.getName());
+            out.writeInt(data.getLines().size());
+            for (String line : data.getLines()) {
+                writeString(out, line);
+            }
+        }
+        out.flush();
+        writeAtomically(templatesFile, bytes.toByteArray());
+    }
+    
+    /**
+     * Decode templates.bin
+     */
+    static List<TemplateData> readTemplates(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != TEMPLATES_MAGIC) {
+            throw new IOException("Not a template file");
+        }
+        short version = buffer.getShort();
+        if (version < 1 || version > TEMPLATES_VERSION) {
+            throw new IOException("Unsupported template file version " + version);
+        }
+        
+        int count = readCount(buffer, 8);
+        List<TemplateData> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(buffer);
+            int lineCount = readCount(buffer, 4);
+            List<String> lines = new ArrayList<>(lineCount);
+            for (int j = 0; j < lineCount; j++) {
+                lines.add(readString(buffer));
+            }
+            result.add(new TemplateData(name, lines));
+        }
+        return result;
+    }
+    
+    private static String readString(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[readCount(buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+    
+    @Override
+    public void close() {
+        // Nothing to release, every write already went to disk
+    }
+    
+    /**
+     * Decode a snapshot
+     */
+    static List<HologramData> read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a hologram snapshot");
+        }
+        short version = buffer.getShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        
+        String[] strings = new String[readCount(buffer, 4)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+        
+        int count = readCount(buffer, 4);
+        List<HologramData> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = strings[buffer.getInt()];
+            String world = strings[buffer.getInt()];
+            double x = buffer.getDouble();
+            double y = buffer.getDouble();
+            double z = buffer.getDouble();
+            int permission = buffer.getInt();
+            double lineHeight = buffer.getDouble();
+            double displayRange = buffer.getDouble();
+            
+            int lineCount = readCount(buffer, 4);
+            List<String> lines = new ArrayList<>(lineCount);
+            for (int j = 0; j < lineCount; j++) {
+                lines.add(strings[buffer.getInt()]);
+            }
+            
+            List<List<String>> pages = new ArrayList<>();
+            int pageInterval = 0;
+            if (version >= 2) {
+                int pageCount = readCount(buffer, 4);
+                for (int j = 0; j < pageCount; j++) {
+                    List<String> page = new ArrayList<>();
+                    int pageLines = readCount(buffer, 4);
+                    for (int k = 0; k < pageLines; k++) {
+                        page.add(strings[buffer.getInt()]);
+                    }
+                    pages.add(page);
+                }
+                pageInterval = buffer.getInt();
+            }
+            
+            String template = null;
+            Map<Integer, String> overrides = new TreeMap<>();
+            if (version >= 3) {
+                int templateIndex = buffer.getInt();
+                template = templateIndex >= 0 ? strings[templateIndex] : null;
+                int overrideCount = readCount(buffer, 8);
+                for (int j = 0; j < overrideCount; j++) {
+                    int index = buffer.getInt();
+                    overrides.put(index, strings[buffer.getInt()]);
+                }
+            }
+            
+            result.add(new HologramData(name, world, x, y, z, lines,
+                    permission >= 0 ? strings[permission] : null, lineHeight, displayRange, pages, pageInterval,
+                    template, overrides));
+        }
+        return result;
+    }
+    
+    /**
+     * Read a count or length and check that the remaining bytes can hold that many entries,
+     * so a corrupt field fails the read instead of allocating a huge or negative array
+     */
+    private static int readCount(ByteBuffer buffer, int entryBytes) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / entryBytes) {
+            throw new IOException("Corrupt count " + count + " at offset " + (buffer.position() - 4));
+        }
+        return count;
+    }
+    
+    /**
+     * Encode holograms into a snapshot
+     */
+    static byte[] encode(Collection<HologramData> holograms) throws IOException {
+        // Build the string table first so repeated worlds and lines are stored once
+        Map<String, Integer> table = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (HologramData data : holograms) {
+            intern(table, strings, data.getName());
+            intern(table, strings, worldOf(data));
+            if (data.getPermission() != null && !data.getPermission().isEmpty()) {
+                intern(table, strings, data.getPermission());
+            }
+            for (String line : data.getLines()) {
+                intern(table, strings, line);
+            }
+            for (List<String> page : data.getPages()) {
+                for (String line : page) {
+                    intern(table, strings, line);
+                }
+            }
+            if (data.getTemplate() != null) {
+                intern(table, strings, data.getTemplate());
+            }
+            for (String line : data.getOverrides().values()) {
+                intern(table, strings, line);
+            }
+        }
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(out, string);
+        }
+        
+        out.writeInt(holograms.size());
+        for (HologramData data : holograms) {
+            out.writeInt(table.get(data.getName()));
+            out.writeInt(table.get(worldOf(data)));
+            out.writeDouble(data.getX());
+            out.writeDouble(data.getY());
+            out.writeDouble(data.getZ());
+            out.writeInt(data.getPermission() != null && !data.getPermission().isEmpty() ? table.get(data.getPermission()) : -1);
+            out.writeDouble(data.getLineHeight());
+            out.writeDouble(data.getDisplayRange());
+            out.writeInt(data.getLines().size());
+            for (String line : data.getLines()) {
+                out.writeInt(table.get(line));
+            }
+            out.writeInt(data.getPages().size());
+            for (List<String> page : data.getPages()) {
+                out.writeInt(page.size());
+                for (String line : page) {
+                    out.writeInt(table.get(line));
+                }
+            }
+            out.writeInt(data.getPageInterval());
+            out.writeInt(data.getTemplate() != null ? table.get(data.getTemplate()) : -1);
+            out.writeInt(data.getOverrides().size());
+            for (Map.Entry<Integer, String> override : data.getOverrides().entrySet()) {
+                out.writeInt(override.getKey());
+                out.writeInt(table.get(override.getValue()));
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+    
+    private static String worldOf(HologramData data) {
+        return data.getWorld() != null ? data.getWorld() : "";
+    }
+    
+    private static void intern(Map<String, Integer> table, List<String> strings, String value) {
+        if (!table.containsKey(value)) {
+            table.put(value, strings.size());
+            strings.add(value);
+        }
+    }
+    
+    /**
+     * Write to a temporary file first and move it over the target,
+     * so a crash mid-write never leaves a truncated file behind
+     */
+    private static void writeAtomically(File file, byte[] contents) throws IOException {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.write(temp, contents);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
+
@@ -0,0 +1,175 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of a hologram's persistent state.
+ * Taken on the main thread so it can be written from any thread.
+ * A line height or display range of NaN means the hologram uses the config default.
+ * The lines are the first page, further pages are kept separately.
+ * Holograms made from a template also keep the full first page, which is used if the template is missing.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class HologramData {
+    
+    private final String name;
+    private final String world;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final List<String> lines;
+    private final String permission;
+    private final double lineHeight;
+    private final double displayRange;
+    private final List<List<String>> pages;
+    private final int pageInterval;
+    private final String template;
+    private final Map<Integer, String> overrides;
+    
+    public HologramData(String name, String world, double x, double y, double z, List<String> lines,
+                        String permission, double lineHeight, double displayRange) {
+        this(name, world, x, y, z, lines, permission, lineHeight, displayRange, Collections.emptyList(), 0);
+    }
+    
+    /**
+     * @param pages The pages after the first one
+     * @param pageInterval The auto-cycle interval in ticks, or 0 for none
+     */
+    public HologramData(String name, String world, double x, double y, double z, List<String> lines,
+                        String permission, double lineHeight, double displayRange,
+                        List<List<String>> pages, int pageInterval) {
+        this(name, world, x, y, z, lines, permission, lineHeight, displayRange, pages, pageInterval,
+                null, Collections.emptyMap());
+    }
+    
+    /**
+     * @param template The name of the template the first page comes from, or null
+     * @param overrides The lines that differ from the template, by index
+     */
+    public HologramData(String name, String world, double x, double y, double z, List<String> lines,
+                        String permission, double lineHeight, double displayRange,
+                        List<List<String>> pages, int pageInterval,
+                        String template, Map<Integer, String> overrides) {
+        this.name = name;
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.lines = Collections.unmodifiableList(lines);
+        this.permission = permission;
+        this.lineHeight = lineHeight;
+        this.displayRange = displayRange;
+        this.pages = Collections.unmodifiableList(pages);
+        this.pageInterval = pageInterval;
+        this.template = template;
+        this.overrides = Collections.unmodifiableMap(new TreeMap<>(overrides));
+    }
+    
+    /**
+     * Take a snapshot of a hologram
+     * 
+     * @param hologram The hologram to snapshot
+     * @return The snapshot
+     */
+    public static HologramData of(Hologram hologram) {
+        FileConfiguration config = PandoraHologramsPlugin.getInstance().getConfig();
+        double defaultHeight = config.getDouble("default-line-height", 0.3);
+        double defaultRange = config.getDouble("default-display-range", 48.0);
+        
+        Location loc = hologram.getLocation();
+        List<List<String>> pages = new ArrayList<>();
+        for (int i = 1; i < hologram.getPageCount(); i++) {
+            pages.add(hologram.getPageLines(i));
+        }
+        return new HologramData(hologram.getName(), loc.getWorld().getName(), loc.getX(), loc.getY(), loc.getZ(),
+                hologram.getLines(), hologram.getPermission(),
+                Math.abs(hologram.getLineHeight() - defaultHeight) > 0.001 ? hologram.getLineHeight() : Double.NaN,
+                Math.abs(hologram.getDisplayRange() - defaultRange) > 0.001 ? hologram.getDisplayRange() : Double.NaN,
+                pages, hologram.getPageInterval(),
+                hologram.getTemplate() != null ? hologram.getTemplate().getName() : null, hologram.getOverrides());
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getWorld() {
+        return world;
+    }
+    
+    public double getX() {
+        return x;
+    }
+    
+    public double getY() {
+        return y;
+    }
+    
+    public double getZ() {
+        return z;
+    }
+    
+    public List<String> getLines() {
+        return lines;
+    }
+    
+    public String getPermission() {
+        return permission;
+    }
+    
+    public double getLineHeight() {
+        return lineHeight;
+    }
+    
+    public boolean hasLineHeight() {
+        return !Double.isNaN(lineHeight);
+    }
+    
+    public double getDisplayRange() {
+        return displayRange;
+    }
+    
+    public boolean hasDisplayRange() {
+        return !Double.isNaN(displayRange);
+    }
+    
+    /**
+     * Get the pages after the first one, the first page is {@link #getLines()}
+     */
+    public List<List<String>> getPages() {
+        return pages;
+    }
+    
+    public int getPageInterval() {
+        return pageInterval;
+    }
+    
+    /**
+     * Get the name of the template the first page comes from
+     * 
+     * @return The template name, or null if the hologram has its own lines
+     */
+    public String getTemplate() {
+        return template;
+    }
+    
+    /**
+     * Get the lines of the first page that differ from the template
+     */
+    public Map<Integer, String> getOverrides() {
+        return overrides;
+    }
+
+}
+
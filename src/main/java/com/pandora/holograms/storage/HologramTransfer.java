@@ -0,0 +1,394 @@
+package com.pandora.holograms.storage;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes hologram sets for /holo import and /holo export.
+ * JSON files are streamed one hologram at a time, YAML files use the holograms.yml layout.
+ * Also reads the files of DecentHolograms and HolographicDisplays for migration.
+ * None of these methods touch the server, so they can run off the main thread.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public final class HologramTransfer {
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private HologramTransfer() {
+    }
+    
+    /**
+     * Read an export file, the format is picked by the file extension
+     * 
+     * @param file A .json, .yml or .yaml file
+     * @return The holograms in the file
+     * @throws IOException If the file cannot be read or is malformed
+     */
+    public static List<HologramData> read(File file) throws IOException {
+        if (isYaml(file)) {
+            return YamlHologramStorage.read(loadYaml(file));
+        }
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            return readJson(reader);
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("Malformed hologram file " + file.getName() + ": " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Write holograms to an export file, the format is picked by the file extension
+     * 
+     * @param file A .json, .yml or .yaml file
+     * @param holograms The holograms to write
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(File file, Collection<HologramData> holograms) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        
+        if (isYaml(file)) {
+            YamlConfiguration config = new YamlConfiguration();
+            YamlHologramStorage.apply(config, holograms, Collections.emptyList());
+            config.save(file);
+            return;
+        }
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+             JsonWriter writer = new JsonWriter(out)) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("version").value(FORMAT_VERSION);
+            writer.name("holograms").beginArray();
+            for (HologramData data : holograms) {
+                writeJson(writer, data);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+    }
+    
+    /**
+     * Read the hologram files of DecentHolograms, one .yml file per hologram
+     * 
+     * @param folder The plugins/DecentHolograms/holograms folder
+     * @return The holograms found, only text lines are kept
+     * @throws IOException If the folder does not exist
+     */
+    public static List<HologramData> readDecentHolograms(File folder) throws IOException {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null) {
+            throw new IOException("Folder " + folder.getPath() + " not found");
+        }
+        
+        List<HologramData> result = new ArrayList<>();
+        for (File file : files) {
+            FileConfiguration config = loadYaml(file);
+            // Locations are stored as world:x:y:z
+            String[] location = config.getString("location", "").split(":");
+            if (location.length < 4) {
+                continue;
+            }
+            
+            List<String> lines = new ArrayList<>();
+            List<Map<?, ?>> pages = config.getMapList("pages");
+            if (!pages.isEmpty()) {
+                // Only the first page is imported
+                Object pageLines = pages.get(0).get("lines");
+                if (pageLines instanceof List) {
+                    for (Object line : (List<?>) pageLines) {
+                        if (line instanceof Map) {
+                            addTextLine(lines, ((Map<?, ?>) line).get("content"), "#");
+                        }
+                    }
+                }
+            } else {
+                // Older versions kept a flat list of lines
+                for (Map<?, ?> line : config.getMapList("lines")) {
+                    addTextLine(lines, line.get("content"), "#");
+                }
+            }
+            
+            String name = file.getName().substring(0, file.getName().length() - 4);
+            try {
+                result.add(new HologramData(sanitizeName(name), location[0],
+                        Double.parseDouble(location[1]), Double.parseDouble(location[2]), Double.parseDouble(location[3]),
+                        lines, null, Double.NaN, config.contains("display-range") ? config.getDouble("display-range") : Double.NaN));
+            } catch (NumberFormatException e) {
+                // Skip holograms with a broken location
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Read the database.yml of HolographicDisplays
+     * 
+     * @param database The plugins/HolographicDisplays/database.yml file
+     * @return The holograms found, only text lines are kept
+     * @throws IOException If the file does not exist
+     */
+    public static List<HologramData> readHolographicDisplays(File database) throws IOException {
+        if (!database.isFile()) {
+            throw new IOException("File " + database.getPath() + " not found");
+        }
+        
+        FileConfiguration config = loadYaml(database);
+        List<HologramData> result = new ArrayList<>();
+        for (String name : config.getKeys(false)) {
+            ConfigurationSection section = config.getConfigurationSection(name);
+            if (section == null) {
+                continue;
+            }
+            
+            List<String> lines = new ArrayList<>();
+            for (String line : section.getStringList("lines")) {
+                addTextLine(lines, line, "ICON:");
+            }
+            
+            ConfigurationSection position = section.getConfigurationSection("position");
+            if (position != null) {
+                result.add(new HologramData(sanitizeName(name), position.getString("world"),
+                        position.getDouble("x"), position.getDouble("y"), position.getDouble("z"),
+                        lines, null, Double.NaN, Double.NaN));
+                continue;
+            }
+            
+            // Version 2 stored the location as "world, x, y, z"
+            String[] location = section.getString("location", "").split(",");
+            if (location.length < 4) {
+                continue;
+            }
+            try {
+                result.add(new HologramData(sanitizeName(name), location[0].trim(),
+                        Double.parseDouble(location[1].trim()), Double.parseDouble(location[2].trim()), Double.parseDouble(location[3].trim()),
+                        lines, null, Double.NaN, Double.NaN));
+            } catch (NumberFormatException e) {
+                // Skip holograms with a broken location
+            }
+        }
+        return result;
+    }
+    
+    private static List<HologramData> readJson(JsonReader reader) throws IOException {
+        List<HologramData> result = new ArrayList<>();
+        // Accept a bare array as well as the exported {"version": 1, "holograms": [...]} object
+        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+            readJsonArray(reader, result);
+            return result;
+        }
+        
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("holograms")) {
+                readJsonArray(reader, result);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+    
+    private static void readJsonArray(JsonReader reader, List<HologramData> result) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.add(readJsonHologram(reader));
+        }
+        reader.endArray();
+    }
+    
+    private static HologramData readJsonHologram(JsonReader reader) throws IOException {
+        String name = null;
+        String world = null;
+        double x = 0.0;
+        double y = 0.0;
+        double z = 0.0;
+        List<String> lines = new ArrayList<>();
+        String permission = null;
+        double lineHeight = Double.NaN;
+        double displayRange = Double.NaN;
+        List<List<String>> pages = new ArrayList<>();
+        int pageInterval = 0;
+        String template = null;
+        Map<Integer, String> overrides = new TreeMap<>();
+        
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (field) {
+                case "name":
+                    name = reader.nextString();
+                    break;
+                case "world":
+                    world = reader.nextString();
+                    break;
+                case "x":
+                    x = reader.nextDouble();
+                    break;
+                case "y":
+                    y = reader.nextDouble();
+                    break;
+                case "z":
+                    z = reader.nextDouble();
+                    break;
+                case "lines":
+                    readJsonLines(reader, lines);
+                    break;
+                case "pages":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        List<String> page = new ArrayList<>();
+                        readJsonLines(reader, page);
+                        pages.add(page);
+                    }
+                    reader.endArray();
+                    break;
+                case "page-interval":
+                    pageInterval = reader.nextInt();
+                    break;
+                case "template":
+                    template = reader.nextString();
+                    break;
+                case "overrides":
+                    // Keyed by 1-based line number like the commands
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        overrides.put(Integer.parseInt(reader.nextName()) - 1, reader.nextString());
+                    }
+                    reader.endObject();
+                    break;
+                case "permission":
+                    permission = reader.nextString();
+                    break;
+                case "line-height":
+                    lineHeight = reader.nextDouble();
+                    break;
+                case "display-range":
+                    displayRange = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        
+        if (name == null) {
+            throw new IOException("Hologram without a name");
+        }
+        return new HologramData(sanitizeName(name), world, x, y, z, lines, permission, lineHeight, displayRange,
+                pages, pageInterval, template, overrides);
+    }
+    
+    private static void readJsonLines(JsonReader reader, List<String> lines) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            lines.add(reader.nextString());
+        }
+        reader.endArray();
+    }
+    
+    private static void writeJson(JsonWriter writer, HologramData data) throws IOException {
+        writer.beginObject();
+        writer.name("name").value(data.getName());
+        writer.name("world").value(data.getWorld());
+        writer.name("x").value(data.getX());
+        writer.name("y").value(data.getY());
+        writer.name("z").value(data.getZ());
+        writer.name("lines");
+        writeJsonLines(writer, data.getLines());
+        if (!data.getPages().isEmpty()) {
+            writer.name("pages").beginArray();
+            for (List<String> page : data.getPages()) {
+                writeJsonLines(writer, page);
+            }
+            writer.endArray();
+        }
+        if (data.getPageInterval() > 0) {
+            writer.name("page-interval").value(data.getPageInterval());
+        }
+        if (data.getTemplate() != null) {
+            writer.name("template").value(data.getTemplate());
+            writer.name("overrides").beginObject();
+            for (Map.Entry<Integer, String> override : data.getOverrides().entrySet()) {
+                writer.name(String.valueOf(override.getKey() + 1)).value(override.getValue());
+            }
+            writer.endObject();
+        }
+        if (data.getPermission() != null && !data.getPermission().isEmpty()) {
+            writer.name("permission").value(data.getPermission());
+        }
+        if (data.hasLineHeight()) {
+            writer.name("line-height").value(data.getLineHeight());
+        }
+        if (data.hasDisplayRange()) {
+            writer.name("display-range").value(data.getDisplayRange());
+        }
+        writer.endObject();
+    }
+    
+    private static void writeJsonLines(JsonWriter writer, List<String> lines) throws IOException {
+        writer.beginArray();
+        for (String line : lines) {
+            writer.value(line);
+        }
+        writer.endArray();
+    }
+    
+    /**
+     * Keep text lines, item and entity lines of other plugins have no equivalent here
+     */
+    private static void addTextLine(List<String> lines, Object line, String skipPrefix) {
+        if (line != null && !line.toString().startsWith(skipPrefix)) {
+            lines.add(line.toString());
+        }
+    }
+    
+    /**
+     * Make a name from another plugin valid for /holo commands: letters, numbers, _ and -, at most 32 characters
+     */
+    private static String sanitizeName(String name) {
+        String clean = name.replaceAll("[^a-zA-Z0-9_-]", "_");
+        return clean.length() > 32 ? clean.substring(0, 32) : clean;
+    }
+    
+    private static boolean isYaml(File file) {
+        String name = file.getName().toLowerCase();
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+    
+    private static FileConfiguration loadYaml(File file) throws IOException {
+        if (!file.isFile()) {
+            throw new IOException("File " + file.getPath() + " not found");
+        }
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        }
+    }
+
+}
+
@@ -0,0 +1,65 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.zaxxer.hikari.HikariConfig;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Stores holograms in a MySQL or MariaDB database configured in the mysql section of config.yml.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class MySqlHologramStorage extends SqlHologramStorage {
+    
+    private final String host;
+    private final int port;
+    private final String database;
+    private final String username;
+    private final String password;
+    private final int poolSize;
+    
+    public MySqlHologramStorage(PandoraHologramsPlugin plugin, ConfigurationSection config) {
+        super(plugin, config.getString("table-prefix", "pandora_"));
+        this.host = config.getString("host", "localhost");
+        this.port = config.getInt("port", 3306);
+        this.database = config.getString("database", "minecraft");
+        this.username = config.getString("username", "root");
+        this.password = config.getString("password", "");
+        this.poolSize = config.getInt("pool-size", 4);
+    }
+    
+    @Override
+    public String getName() {
+        return "mysql";
+    }
+    
+    @Override
+    protected HikariConfig createPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        config.setJdbcUrl("jdbc:mysql://" + host + ":" + port + "/" + database
+                + "?useUnicode=true&characterEncoding=utf8&rewriteBatchedStatements=true");
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        return config;
+    }
+    
+    @Override
+    protected String getUpsertSql() {
+        return "INSERT INTO " + table + " (name, world, x, y, z, line_data, permission, line_height, display_range) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE world = VALUES(world), x = VALUES(x), y = VALUES(y), "
+                + "z = VALUES(z), line_data = VALUES(line_data), permission = VALUES(permission), "
+                + "line_height = VALUES(line_height), display_range = VALUES(display_range)";
+    }
+    
+    @Override
+    protected String getTemplateUpsertSql() {
+        return "INSERT INTO " + templateTable + " (name, line_data) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE line_data = VALUES(line_data)";
+    }
+
+}
+
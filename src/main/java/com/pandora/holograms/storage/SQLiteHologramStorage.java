@@ -0,0 +1,59 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.zaxxer.hikari.HikariConfig;
+
+import java.io.File;
+
+/**
+ * Stores holograms in an embedded SQLite database (holograms.db).
+ * The SQLite driver ships with Spigot and Paper.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class SQLiteHologramStorage extends SqlHologramStorage {
+    
+    private final File databaseFile;
+    
+    public SQLiteHologramStorage(PandoraHologramsPlugin plugin) {
+        super(plugin, "");
+        this.databaseFile = new File(plugin.getDataFolder(), "holograms.db");
+        
+        if (!plugin.getDataFolder().exists()) {
+            plugin.getDataFolder().mkdirs();
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+    
+    @Override
+    protected HikariConfig createPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setJdbcUrl("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        // SQLite allows a single writer, more connections would only wait on the file lock
+        config.setMaximumPoolSize(1);
+        return config;
+    }
+    
+    @Override
+    protected String getUpsertSql() {
+        return "INSERT INTO " + table + " (name, world, x, y, z, line_data, permission, line_height, display_range) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT(name) DO UPDATE SET world = excluded.world, x = excluded.x, y = excluded.y, "
+                + "z = excluded.z, line_data = excluded.line_data, permission = excluded.permission, "
+                + "line_height = excluded.line_height, display_range = excluded.display_range";
+    }
+    
+    @Override
+    protected String getTemplateUpsertSql() {
+        return "INSERT INTO " + templateTable + " (name, line_data) VALUES (?, ?) "
+                + "ON CONFLICT(name) DO UPDATE SET line_data = excluded.line_data";
+    }
+
+}
+
@@ -0,0 +1,297 @@
+package com.pandora.holograms.storage;
+
+import com.google.gson.Gson;
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Base class for SQL storage backends.
+ * Each hologram is one row, so a batch only upserts and deletes the rows that changed.
+ * Templates live in their own table, one row per template with its lines as a JSON array.
+ * Connections come from a HikariCP pool that is opened on first use.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public abstract class SqlHologramStorage implements HologramStorage {
+    
+    private static final Gson GSON = new Gson();
+    
+    protected final PandoraHologramsPlugin plugin;
+    protected final String table;
+    protected final String templateTable;
+    private HikariDataSource dataSource;
+    
+    protected SqlHologramStorage(PandoraHologramsPlugin plugin, String tablePrefix) {
+        this.plugin = plugin;
+        this.table = tablePrefix + "holograms";
+        this.templateTable = tablePrefix + "templates";
+    }
+    
+    /**
+     * Create the connection pool settings for this database
+     */
+    protected abstract HikariConfig createPoolConfig();
+    
+    /**
+     * Get the insert-or-update statement for this database. Parameters are
+     * name, world, x, y, z, line_data, permission, line_height, display_range.
+     */
+    protected abstract String getUpsertSql();
+    
+    /**
+     * Get the insert-or-update statement for templates. Parameters are name, line_data.
+     */
+    protected abstract String getTemplateUpsertSql();
+    
+    private static List<String> toList(String[] lines) {
+        return lines != null ? new ArrayList<>(Arrays.asList(lines)) : new ArrayList<>();
+    }
+    
+    /**
+     * The line_data column. Holograms with a single page store a plain JSON array of lines,
+     * holograms with pages or a template store {"lines": [...], "pages": [[...]], "interval": ticks,
+     * "template": name, "overrides": {index: line}}.
+     */
+    private static class LineData {
+        private String[] lines;
+        private String[][] pages;
+        private int interval;
+        private String template;
+        private Map<Integer, String> overrides;
+        
+        static LineData parse(String json) {
+            if (json != null && json.trim().startsWith("{")) {
+                LineData data = GSON.fromJson(json, LineData.class);
+                if (data != null) {
+                    return data;
+                }
+            }
+            LineData data = new LineData();
+            data.lines = GSON.fromJson(json, String[].class);
+            return data;
+        }
+        
+        static String format(HologramData hologram) {
+            if (hologram.getPages().isEmpty() && hologram.getPageInterval() <= 0 && hologram.getTemplate() == null) {
+                return GSON.toJson(hologram.getLines());
+            }
+            LineData data = new LineData();
+            data.lines = hologram.getLines().toArray(new String[0]);
+            data.pages = new String[hologram.getPages().size()][];
+            for (int i = 0; i < data.pages.length; i++) {
+                data.pages[i] = hologram.getPages().get(i).toArray(new String[0]);
+            }
+            data.interval = hologram.getPageInterval();
+            data.template = hologram.getTemplate();
+            data.overrides = hologram.getOverrides().isEmpty() ? null : new TreeMap<>(hologram.getOverrides());
+            return GSON.toJson(data);
+        }
+        
+        List<List<String>> getPages() {
+            List<List<String>> result = new ArrayList<>();
+            if (pages != null) {
+                for (String[] page : pages) {
+                    result.add(toList(page));
+                }
+            }
+            return result;
+        }
+        
+        Map<Integer, String> getOverrides() {
+            return overrides != null ? overrides : new TreeMap<>();
+        }
+    }
+    
+    @Override
+    public List<HologramData> loadAll() {
+        List<HologramData> result = new ArrayList<>();
+        String sql = "SELECT name, world, x, y, z, line_data, permission, line_height, display_range FROM " + table;
+        
+        try (Connection connection = getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                LineData lineData = LineData.parse(rs.getString("line_data"));
+                result.add(new HologramData(rs.getString("name"), rs.getString("world"),
+                        rs.getDouble("x"), rs.getDouble("y"), rs.getDouble("z"),
+                        toList(lineData.lines),
+                        rs.getString("permission"),
+                        getNullableDouble(rs, "line_height"),
+                        getNullableDouble(rs, "display_range"),
+                        lineData.getPages(), lineData.interval,
+                        lineData.template, lineData.getOverrides()));
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Failed to load holograms from " + getName() + " storage!");
+            e.printStackTrace();
+        }
+        return result;
+    }
+    
+    @Override
+    public void write(Collection<HologramData> saves, Collection<String> deletes) throws IOException {
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (!deletes.isEmpty()) {
+                    try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table + " WHERE name = ?")) {
+                        for (String name : deletes) {
+                            delete.setString(1, name);
+                            delete.addBatch();
+                        }
+                        delete.executeBatch();
+                    }
+                }
+                
+                if (!saves.isEmpty()) {
+                    try (PreparedStatement upsert = connection.prepareStatement(getUpsertSql())) {
+                        for (HologramData data : saves) {
+                            upsert.setString(1, data.getName());
+                            upsert.setString(2, data.getWorld());
+                            upsert.setDouble(3, data.getX());
+                            upsert.setDouble(4, data.getY());
+                            upsert.setDouble(5, data.getZ());
+                            upsert.setString(6, LineData.format(data));
+                            upsert.setString(7, data.getPermission() != null && !data.getPermission().isEmpty() ? data.getPermission() : null);
+                            setNullableDouble(upsert, 8, data.getLineHeight());
+                            setNullableDouble(upsert, 9, data.getDisplayRange());
+                            upsert.addBatch();
+                        }
+                        upsert.executeBatch();
+                    }
+                }
+                
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to save holograms to " + getName() + " storage", e);
+        }
+    }
+    
+    @Override
+    public List<TemplateData> loadTemplates() {
+        List<TemplateData> result = new ArrayList<>();
+        String sql = "SELECT name, line_data FROM " + templateTable;
+        
+        try (Connection connection = getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                result.add(new TemplateData(rs.getString("name"), toList(GSON.fromJson(rs.getString("line_data"), String[].class))));
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Failed to load templates from " + getName() + " storage!");
+            e.printStackTrace();
+        }
+        return result;
+    }
+    
+    @Override
+    public void writeTemplates(Collection<TemplateData> saves, Collection<String> deletes) throws IOException {
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (!deletes.isEmpty()) {
+                    try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + templateTable + " WHERE name = ?")) {
+                        for (String name : deletes) {
+                            delete.setString(1, name);
+                            delete.addBatch();
+                        }
+                        delete.executeBatch();
+                    }
+                }
+                
+                if (!saves.isEmpty()) {
+                    try (PreparedStatement upsert = connection.prepareStatement(getTemplateUpsertSql())) {
+                        for (TemplateData data : saves) {
+                            upsert.setString(1, data.getName());
+                            upsert.setString(2, GSON.toJson(data.getLines()));
+                            upsert.addBatch();
+                        }
+                        upsert.executeBatch();
+                    }
+                }
+                
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to save templates to " + getName() + " storage", e);
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+    
+    private synchronized HikariDataSource getDataSource() throws SQLException {
+        if (dataSource == null) {
+            HikariConfig config = createPoolConfig();
+            config.setPoolName("PandoraHolograms-" + getName());
+            dataSource = new HikariDataSource(config);
+            createTable();
+        }
+        return dataSource;
+    }
+    
+    private void createTable() throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + table + " ("
+                + "name VARCHAR(64) NOT NULL PRIMARY KEY, "
+                + "world VARCHAR(128) NOT NULL, "
+                + "x DOUBLE NOT NULL, "
+                + "y DOUBLE NOT NULL, "
+                + "z DOUBLE NOT NULL, "
+                + "line_data TEXT NOT NULL, "
+                + "permission VARCHAR(255), "
+                + "line_height DOUBLE, "
+                + "display_range DOUBLE)";
+        String templateSql = "CREATE TABLE IF NOT EXISTS " + templateTable + " ("
+                + "name VARCHAR(64) NOT NULL PRIMARY KEY, "
+                + "line_data TEXT NOT NULL)";
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+            statement.executeUpdate(templateSql);
+        }
+    }
+    
+    private static double getNullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+    
+    private static void setNullableDouble(PreparedStatement statement, int index, double value) throws SQLException {
+        if (Double.isNaN(value)) {
+            statement.setNull(index, Types.DOUBLE);
+        } else {
+            statement.setDouble(index, value);
+        }
+    }
+
+}
+
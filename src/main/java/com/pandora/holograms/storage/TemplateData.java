@@ -0,0 +1,45 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.hologram.HologramTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable snapshot of a hologram template.
+ * Taken on the main thread so it can be written from any thread.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class TemplateData {
+    
+    private final String name;
+    private final List<String> lines;
+    
+    public TemplateData(String name, List<String> lines) {
+        this.name = name;
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+    }
+    
+    /**
+     * Capture the current state of a template
+     * 
+     * @param template The template
+     * @return A snapshot of the template
+     */
+    public static TemplateData of(HologramTemplate template) {
+        return new TemplateData(template.getName(), template.getLines());
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public List<String> getLines() {
+        return lines;
+    }
+
+}
+
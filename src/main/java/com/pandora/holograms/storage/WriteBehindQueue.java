@@ -0,0 +1,321 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import com.pandora.holograms.hologram.Hologram;
+import com.pandora.holograms.hologram.HologramTemplate;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects hologram and template saves and deletes and writes them in one batch after a delay.
+ * Repeated edits of the same hologram within the window collapse into a single write,
+ * and the write itself runs on a dedicated storage thread.
+ * Storage applies the deletes of a batch before its saves.
+ * A batch that fails is logged and queued again, minus entries a newer save or delete replaced,
+ * so it is written with the next flush.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class WriteBehindQueue {
+    
+    private final PandoraHologramsPlugin plugin;
+    private final HologramStorage storage;
+    private final long delay;
+    private final ExecutorService writer;
+    private final Pending<HologramData> holograms;
+    private final Pending<TemplateData> templates;
+    private BukkitTask flushTask;
+    
+    public WriteBehindQueue(PandoraHologramsPlugin plugin, HologramStorage storage, long delay) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.delay = Math.max(1L, delay);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PandoraHolograms-Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.holograms = new Pending<>(HologramData::getName);
+        this.templates = new Pending<>(TemplateData::getName);
+    }
+    
+    /**
+     * Mark a hologram as changed. Its state is captured now and written on the next flush.
+     * 
+     * @param hologram The hologram to save
+     */
+    public void save(Hologram hologram) {
+        holograms.save(HologramData.of(hologram));
+        scheduleFlush();
+    }
+    
+    /**
+     * Mark a hologram as deleted
+     * 
+     * @param name The exact name the hologram was saved under
+     */
+    public void delete(String name) {
+        holograms.delete(name);
+        scheduleFlush();
+    }
+    
+    /**
+     * Mark a template as changed. Its lines are captured now and written on the next flush.
+     * 
+     * @param template The template to save
+     */
+    public void saveTemplate(HologramTemplate template) {
+        templates.save(TemplateData.of(template));
+        scheduleFlush();
+    }
+    
+    /**
+     * Mark a template as deleted
+     * 
+     * @param name The exact name the template was saved under
+     */
+    public void deleteTemplate(String name) {
+        templates.delete(name);
+        scheduleFlush();
+    }
+    
+    /**
+     * Load every stored hologram on the storage thread.
+     * Runs after any writes queued before it, so a reload always sees the latest save.
+     * 
+     * @return A future completed with the stored holograms
+     */
+    public CompletableFuture<List<HologramData>> load() {
+        return submit(storage::loadAll);
+    }
+    
+    /**
+     * Load every stored template on the storage thread, after any writes queued before it
+     * 
+     * @return A future completed with the stored templates
+     */
+    public CompletableFuture<List<TemplateData>> loadTemplates() {
+        return submit(storage::loadTemplates);
+    }
+    
+    /**
+     * Run a task on the storage thread, after every write queued before it
+     * 
+     * @param task The task to run
+     * @return A future completed with the task's result
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, writer);
+    }
+    
+    /**
+     * Hand the pending changes to the storage thread without waiting
+     */
+    public void flush() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (holograms.isEmpty() && templates.isEmpty()) {
+            return;
+        }
+        submitPending();
+    }
+    
+    /**
+     * Write the pending changes and wait until everything queued so far is on disk
+     */
+    public void flushNow() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        try {
+            submitPending().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Already logged and queued again by the write itself
+        }
+    }
+    
+    /**
+     * Flush synchronously and stop the storage thread. Only used when the plugin disables.
+     */
+    public void shutdown() {
+        flushNow();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for hologram storage to finish writing!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storage.close();
+    }
+    
+    private void scheduleFlush() {
+        if (flushTask == null && plugin.isEnabled()) {
+            flushTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                flushTask = null;
+                flush();
+            }, delay);
+        }
+    }
+    
+    private CompletableFuture<Void> submitPending() {
+        Batch<HologramData> hologramBatch = holograms.drain();
+        Batch<TemplateData> templateBatch = templates.drain();
+        CompletableFuture<Void> result = CompletableFuture.runAsync(() -> {
+            if (hologramBatch.isEmpty() && templateBatch.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                // Templates first, so stored holograms never reference a template that is not stored yet
+                if (!templateBatch.isEmpty()) {
+                    storage.writeTemplates(templateBatch.saves, templateBatch.deletes);
+                    templateBatch.written = true;
+                }
+                if (!hologramBatch.isEmpty()) {
+                    storage.write(hologramBatch.saves, hologramBatch.deletes);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            plugin.getStats().recordStorageFlush(System.nanoTime() - start);
+        }, writer);
+        result.whenComplete((ignored, error) -> {
+            if (error == null) {
+                return;
+            }
+            plugin.getLogger().severe("Failed to write " + (hologramBatch.size() + (templateBatch.written ? 0 : templateBatch.size()))
+                    + " hologram and template change(s) to " + storage.getName() + " storage, they are written with the next save!");
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            (cause instanceof UncheckedIOException ? cause.getCause() : cause).printStackTrace();
+            Runnable requeue = () -> {
+                holograms.requeue(hologramBatch);
+                if (!templateBatch.written) {
+                    templates.requeue(templateBatch);
+                }
+            };
+            if (Bukkit.isPrimaryThread()) {
+                requeue.run();
+            } else if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, requeue);
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Changes written together in one flush
+     */
+    private static class Batch<T> {
+        private final List<T> saves;
+        private final List<String> deletes;
+        private volatile boolean written;
+        
+        private Batch(List<T> saves, List<String> deletes) {
+            this.saves = saves;
+            this.deletes = deletes;
+        }
+        
+        private boolean isEmpty() {
+            return saves.isEmpty() && deletes.isEmpty();
+        }
+        
+        private int size() {
+            return saves.size() + deletes.size();
+        }
+    }
+    
+    /**
+     * Saves keyed by lowercase name, and deletes by the exact name they were saved under
+     */
+    private static class Pending<T> {
+        private final Function<T, String> nameOf;
+        private final Map<String, T> saves;
+        private final Set<String> deletes;
+        
+        private Pending(Function<T, String> nameOf) {
+            this.nameOf = nameOf;
+            this.saves = new LinkedHashMap<>();
+            this.deletes = new LinkedHashSet<>();
+        }
+        
+        private void save(T data) {
+            String name = nameOf.apply(data);
+            // Only a delete of the exact same name is undone. An entry deleted as "Foo" and
+            // recreated as "foo" must still lose its old entry, which YAML keys by exact name.
+            deletes.remove(name);
+            saves.put(name.toLowerCase(), data);
+        }
+        
+        private void delete(String name) {
+            saves.remove(name.toLowerCase());
+            deletes.add(name);
+        }
+        
+        private boolean isEmpty() {
+            return saves.isEmpty() && deletes.isEmpty();
+        }
+        
+        private Batch<T> drain() {
+            Batch<T> batch = new Batch<>(new ArrayList<>(saves.values()), new ArrayList<>(deletes));
+            saves.clear();
+            deletes.clear();
+            return batch;
+        }
+        
+        /**
+         * Put a failed batch back, skipping every entry a newer save or delete replaced.
+         * Not flushed right away, so a storage that keeps failing is not retried in a loop.
+         */
+        private void requeue(Batch<T> failed) {
+            // Saves first, a failed delete must not hide a save of the same batch
+            for (T data : failed.saves) {
+                String key = nameOf.apply(data).toLowerCase();
+                if (saves.containsKey(key) || isDeleted(key)) {
+                    continue;
+                }
+                saves.put(key, data);
+            }
+            for (String name : failed.deletes) {
+                T newer = saves.get(name.toLowerCase());
+                if (newer == null || !nameOf.apply(newer).equals(name)) {
+                    deletes.add(name);
+                }
+            }
+        }
+        
+        private boolean isDeleted(String key) {
+            for (String name : deletes) {
+                if (name.toLowerCase().equals(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
+
@@ -0,0 +1,248 @@
+package com.pandora.holograms.storage;
+
+import com.pandora.holograms.PandoraHologramsPlugin;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores holograms in holograms.yml.
+ * Every batch rewrites the whole file, prefer a SQL backend for very large hologram sets.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class YamlHologramStorage implements HologramStorage {
+    
+    private final PandoraHologramsPlugin plugin;
+    private File hologramsFile;
+    private FileConfiguration hologramsConfig;
+    private final File templatesFile;
+    private FileConfiguration templatesConfig;
+    
+    public YamlHologramStorage(PandoraHologramsPlugin plugin) {
+        this.plugin = plugin;
+        this.hologramsFile = new File(plugin.getDataFolder(), "holograms.yml");
+        this.templatesFile = new File(plugin.getDataFolder(), "templates.yml");
+        
+        if (!plugin.getDataFolder().exists()) {
+            plugin.getDataFolder().mkdirs();
+        }
+        
+        if (!hologramsFile.exists()) {
+            try {
+                hologramsFile.createNewFile();
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to create holograms.yml file!");
+                e.printStackTrace();
+            }
+        }
+        
+        this.hologramsConfig = YamlConfiguration.loadConfiguration(hologramsFile);
+    }
+    
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+    
+    @Override
+    public synchronized List<HologramData> loadAll() {
+        // Re-read the file so manual edits are picked up on reload
+        this.hologramsConfig = YamlConfiguration.loadConfiguration(hologramsFile);
+        return read(hologramsConfig);
+    }
+    
+    /**
+     * Read every hologram from a loaded holograms.yml
+     */
+    static List<HologramData> read(FileConfiguration hologramsConfig) {
+        List<HologramData> result = new ArrayList<>();
+        ConfigurationSection section = hologramsConfig.getConfigurationSection("holograms");
+        if (section == null) {
+            return result;
+        }
+        
+        for (String name : section.getKeys(false)) {
+            String path = "holograms." + name;
+            
+            List<String> lines = hologramsConfig.getStringList(path + ".lines");
+            if (lines == null) {
+                lines = new ArrayList<>();
+            }
+            
+            // Load optional fields
+            String permission = hologramsConfig.getString(path + ".permission");
+            double lineHeight = hologramsConfig.contains(path + ".line-height")
+                    ? hologramsConfig.getDouble(path + ".line-height") : Double.NaN;
+            double displayRange = hologramsConfig.contains(path + ".display-range")
+                    ? hologramsConfig.getDouble(path + ".display-range") : Double.NaN;
+            
+            // Pages after the first are stored as a list of line lists
+            List<List<String>> pages = new ArrayList<>();
+            List<?> storedPages = hologramsConfig.getList(path + ".pages");
+            if (storedPages != null) {
+                for (Object page : storedPages) {
+                    if (page instanceof List) {
+                        List<String> pageLines = new ArrayList<>();
+                        for (Object line : (List<?>) page) {
+                            pageLines.add(String.valueOf(line));
+                        }
+                        pages.add(pageLines);
+                    }
+                }
+            }
+            
+            result.add(new HologramData(name, hologramsConfig.getString(path + ".world"),
+                    hologramsConfig.getDouble(path + ".x"),
+                    hologramsConfig.getDouble(path + ".y"),
+                    hologramsConfig.getDouble(path + ".z"),
+                    lines, permission, lineHeight, displayRange,
+                    pages, hologramsConfig.getInt(path + ".page-interval", 0),
+                    hologramsConfig.getString(path + ".template"), readOverrides(hologramsConfig, path + ".overrides")));
+        }
+        return result;
+    }
+    
+    /**
+     * Read the template overrides of a hologram, keyed by 1-based line number
+     */
+    private static Map<Integer, String> readOverrides(FileConfiguration hologramsConfig, String path) {
+        Map<Integer, String> overrides = new TreeMap<>();
+        ConfigurationSection section = hologramsConfig.getConfigurationSection(path);
+        if (section == null) {
+            return overrides;
+        }
+        for (String key : section.getKeys(false)) {
+            try {
+                overrides.put(Integer.parseInt(key) - 1, section.getString(key));
+            } catch (NumberFormatException e) {
+                // Not a line number, ignore it
+            }
+        }
+        return overrides;
+    }
+    
+    /**
+     * Apply saved and deleted holograms to holograms.yml and write it atomically
+     */
+    @Override
+    public synchronized void write(Collection<HologramData> saves, Collection<String> deletes) throws IOException {
+        apply(hologramsConfig, saves, deletes);
+        writeAtomically(hologramsFile, hologramsConfig.saveToString());
+    }
+    
+    /**
+     * Templates are kept in their own file, templates.yml
+     */
+    @Override
+    public synchronized List<TemplateData> loadTemplates() {
+        this.templatesConfig = YamlConfiguration.loadConfiguration(templatesFile);
+        List<TemplateData> result = new ArrayList<>();
+        ConfigurationSection section = templatesConfig.getConfigurationSection("templates");
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                result.add(new TemplateData(name, section.getStringList(name + ".lines")));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public synchronized void writeTemplates(Collection<TemplateData> saves, Collection<String> deletes) throws IOException {
+        if (templatesConfig == null) {
+            loadTemplates();
+        }
+        for (String name : deletes) {
+            templatesConfig.set("templates." + name, null);
+        }
+        for (TemplateData data : saves) {
+            templatesConfig.set("templates." + data.getName() + ".lines", data.getLines());
+        }
+        writeAtomically(templatesFile, templatesConfig.saveToString());
+    }
+    
+    /**
+     * Apply saved and deleted holograms to a loaded holograms.yml
+     */
+    static void apply(FileConfiguration hologramsConfig, Collection<HologramData> saves, Collection<String> deletes) {
+        for (String name : deletes) {
+            hologramsConfig.set("holograms." + name, null);
+        }
+        
+        for (HologramData data : saves) {
+            String path = "holograms." + data.getName();
+            // Clear the old entry so removed optional fields don't linger
+            hologramsConfig.set(path, null);
+            
+            hologramsConfig.set(path + ".world", data.getWorld());
+            hologramsConfig.set(path + ".x", data.getX());
+            hologramsConfig.set(path + ".y", data.getY());
+            hologramsConfig.set(path + ".z", data.getZ());
+            hologramsConfig.set(path + ".yaw", 0.0); // Always save as 0
+            hologramsConfig.set(path + ".pitch", 0.0); // Always save as 0
+            hologramsConfig.set(path + ".lines", data.getLines());
+            
+            // Save optional fields
+            if (data.getPermission() != null && !data.getPermission().isEmpty()) {
+                hologramsConfig.set(path + ".permission", data.getPermission());
+            }
+            
+            // Only save line height and display range if they're different from default
+            if (data.hasLineHeight()) {
+                hologramsConfig.set(path + ".line-height", data.getLineHeight());
+            }
+            if (data.hasDisplayRange()) {
+                hologramsConfig.set(path + ".display-range", data.getDisplayRange());
+            }
+            if (!data.getPages().isEmpty()) {
+                hologramsConfig.set(path + ".pages", data.getPages());
+            }
+            if (data.getPageInterval() > 0) {
+                hologramsConfig.set(path + ".page-interval", data.getPageInterval());
+            }
+            if (data.getTemplate() != null) {
+                hologramsConfig.set(path + ".template", data.getTemplate());
+                for (Map.Entry<Integer, String> override : data.getOverrides().entrySet()) {
+                    // Stored 1-based like the line numbers in commands
+                    hologramsConfig.set(path + ".overrides." + (override.getKey() + 1), override.getValue());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Write to a temporary file first and move it over the target,
+     * so a crash mid-write never leaves a truncated file behind
+     */
+    private static void writeAtomically(File file, String contents) throws IOException {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.write(temp, contents.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    @Override
+    public void close() {
+        // Nothing to release, every write already went to disk
+    }
+
+}
+
@@ -0,0 +1,234 @@
+package com.pandora.holograms.util;
+
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares the value of placeholders that are the same for every player, such as %server_online%.
+ * A global placeholder is evaluated once per TTL and reused for every hologram and viewer.
+ * Placeholders are global when their expansion or full text is listed in config.yml, or,
+ * with auto-detect on, once enough different players got the same value for them.
+ * Detected placeholders stay under watch: once per TTL the cached value is compared with a
+ * fresh evaluation for another player, and a mismatch marks the placeholder per-player.
+ * Detected classifications expire, so values that only matched or differed by chance are probed again.
+ * Safe to use from the placeholder worker threads.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class GlobalPlaceholderCache {
+    
+    private final Set<String> expansions;
+    private final Set<String> placeholders;
+    private final boolean autoDetect;
+    private final int probeSamples;
+    private final long ttlNanos;
+    private final long detectionNanos;
+    private final Map<String, Detection> detected;
+    private final Map<String, Probe> probes;
+    private final Map<String, Value> values;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    
+    /**
+     * @param expansions Expansion identifiers whose placeholders are all global
+     * @param placeholders Single placeholders that are global, e.g. %bungee_total%
+     * @param autoDetect Whether to detect global placeholders by comparing values between players
+     * @param probeSamples The number of matching players needed before a placeholder counts as global
+     * @param ttlMillis How long a global value is reused
+     * @param detectionMillis How long an auto-detected classification holds before probing again
+     */
+    public GlobalPlaceholderCache(Collection<String> expansions, Collection<String> placeholders,
+                                  boolean autoDetect, int probeSamples, long ttlMillis, long detectionMillis) {
+        this.expansions = new HashSet<>();
+        for (String expansion : expansions) {
+            this.expansions.add(expansion.toLowerCase());
+        }
+        this.placeholders = new HashSet<>();
+        for (String placeholder : placeholders) {
+            this.placeholders.add(placeholder.toLowerCase());
+        }
+        this.autoDetect = autoDetect;
+        this.probeSamples = Math.max(1, probeSamples);
+        this.ttlNanos = Math.max(0L, ttlMillis) * 1_000_000L;
+        this.detectionNanos = Math.max(1L, detectionMillis) * 1_000_000L;
+        this.detected = new ConcurrentHashMap<>();
+        this.probes = new ConcurrentHashMap<>();
+        this.values = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+    
+    /**
+     * Resolve a single placeholder for a player, from the cache if it is global
+     * 
+     * @param placeholder A single placeholder, %identifier_params%
+     * @param player The player viewing the line
+     * @return The resolved text
+     */
+    public String resolve(String placeholder, Player player) {
+        Boolean global = isGlobal(placeholder);
+        if (global == null) {
+            // Not classified yet, evaluate for this player and compare with the others
+            String value = PlaceholderUtil.parsePlaceholders(placeholder, player);
+            probe(placeholder, player.getUniqueId(), value);
+            return value;
+        }
+        if (!global) {
+            return PlaceholderUtil.parsePlaceholders(placeholder, player);
+        }
+        
+        long now = System.nanoTime();
+        Value cached = values.get(placeholder);
+        if (cached != null && now - cached.time < ttlNanos) {
+            if (needsCheck(placeholder, cached, player)) {
+                return check(placeholder, cached, player);
+            }
+            hits.increment();
+            return cached.text;
+        }
+        // Two threads may miss at once, both values are valid so the last write wins
+        misses.increment();
+        String text = PlaceholderUtil.parsePlaceholders(placeholder, player);
+        values.put(placeholder, new Value(text, now, player.getUniqueId()));
+        return text;
+    }
+    
+    /**
+     * Check if a cached value of an auto-detected placeholder should be compared
+     * with another player. Happens at most once per cached value, so once per TTL.
+     */
+    private boolean needsCheck(String placeholder, Value cached, Player player) {
+        return autoDetect && detected.containsKey(placeholder) && !cached.player.equals(player.getUniqueId())
+                && cached.checked.compareAndSet(false, true);
+    }
+    
+    private String check(String placeholder, Value cached, Player player) {
+        String text = PlaceholderUtil.parsePlaceholders(placeholder, player);
+        if (!text.equals(cached.text)) {
+            // Seen as global by chance, this player gets a different value
+            detected.put(placeholder, new Detection(false, System.nanoTime()));
+            values.remove(placeholder);
+        }
+        return text;
+    }
+    
+    /**
+     * @return True if global, false if per-player, or null while auto-detect is still probing
+     */
+    private Boolean isGlobal(String placeholder) {
+        String lower = placeholder.toLowerCase();
+        if (placeholders.contains(lower) || expansions.contains(lower.substring(1, lower.indexOf('_')))) {
+            return true;
+        }
+        if (!autoDetect) {
+            return false;
+        }
+        Detection detection = detected.get(placeholder);
+        if (detection == null) {
+            return null;
+        }
+        if (System.nanoTime() - detection.time >= detectionNanos) {
+            // Expired, probe the placeholder again from scratch
+            detected.remove(placeholder, detection);
+            values.remove(placeholder);
+            return null;
+        }
+        return detection.global;
+    }
+    
+    private void probe(String placeholder, UUID player, String value) {
+        Probe probe = probes.computeIfAbsent(placeholder, key -> new Probe());
+        synchronized (probe) {
+            if (probe.players.size() >= probeSamples || !probe.players.add(player)) {
+                return;
+            }
+            if (probe.value == null) {
+                probe.value = value;
+            } else if (!probe.value.equals(value)) {
+                detected.put(placeholder, new Detection(false, System.nanoTime()));
+                probes.remove(placeholder);
+                return;
+            }
+            if (probe.players.size() >= probeSamples) {
+                detected.put(placeholder, new Detection(true, System.nanoTime()));
+                probes.remove(placeholder);
+            }
+        }
+    }
+    
+    public long getHits() {
+        return hits.sum();
+    }
+    
+    public long getMisses() {
+        return misses.sum();
+    }
+    
+    /**
+     * Get the share of global placeholder lookups answered from the cache
+     * 
+     * @return A value between 0 and 1
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+    
+    /**
+     * Get the number of placeholders auto-detect classified as global
+     */
+    public int getDetectedGlobalCount() {
+        int count = 0;
+        for (Detection detection : detected.values()) {
+            if (detection.global) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+    }
+    
+    private static class Probe {
+        private final Set<UUID> players = new HashSet<>();
+        private String value;
+    }
+    
+    private static class Value {
+        private final String text;
+        private final long time;
+        private final UUID player;
+        private final AtomicBoolean checked = new AtomicBoolean();
+        
+        private Value(String text, long time, UUID player) {
+            this.text = text;
+            this.time = time;
+            this.player = player;
+        }
+    }
+    
+    private static class Detection {
+        private final boolean global;
+        private final long time;
+        
+        private Detection(boolean global, long time) {
+            this.global = global;
+            this.time = time;
+        }
+    }
+
+}
+
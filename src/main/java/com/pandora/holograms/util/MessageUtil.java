@@ -17,32 +17,40 @@ public class MessageUtil {
     public static final String SPECIAL = "&e";
     public static final String ERROR = "&c";
     
+    // Most messages contain names or numbers and are sent once, so only the constant
+    // fragments are translated ahead of time and the message itself is translated directly
+    private static final String COLORED_PREFIX = colorize(PREFIX);
+    private static final String COLORED_VALUE = colorize(VALUE);
+    private static final String COLORED_TEXT = colorize(TEXT);
+    private static final String COLORED_SPECIAL = colorize(SPECIAL);
+    private static final String COLORED_ERROR = colorize(ERROR);
+    
     public static String colorize(String message) {
         return ChatColor.translateAlternateColorCodes('&', message);
     }
     
     public static String format(String message) {
-        return colorize(PREFIX + message);
+        return COLORED_PREFIX + colorize(message);
     }
     
     public static String formatError(String message) {
-        return format(ERROR + message);
+        return COLORED_PREFIX + COLORED_ERROR + colorize(message);
     }
     
     public static String formatSuccess(String message) {
-        return format(SPECIAL + message);
+        return COLORED_PREFIX + COLORED_SPECIAL + colorize(message);
     }
     
     public static String formatValue(String value) {
-        return colorize(VALUE + value);
+        return COLORED_VALUE + colorize(value);
     }
     
     public static String formatText(String text) {
-        return colorize(TEXT + text);
+        return COLORED_TEXT + colorize(text);
     }
     
     public static String formatSpecial(String text) {
-        return colorize(SPECIAL + text);
+        return COLORED_SPECIAL + colorize(text);
     }
 
 }
@@ -1,22 +1,43 @@
 package com.pandora.holograms.util;
 
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
 /**
  * Utility class for handling PlaceholderAPI integration
  */
 public class PlaceholderUtil {
     
+    /**
+     * Matches %identifier_params%, the same shape PlaceholderAPI resolves.
+     * A lone percent sign such as "50%" is not a placeholder.
+     */
+    public static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([a-zA-Z0-9]+)_([^%]+)%");
+    
+    private static final LongAdder EVALUATIONS = new LongAdder();
+    
     private static boolean placeholderApiEnabled = false;
+    private static MethodHandle setPlaceholders;
+    private static volatile GlobalPlaceholderCache globalCache;
     
     /**
-     * Check if PlaceholderAPI is available
+     * Check if PlaceholderAPI is available and resolve its setPlaceholders method once
      */
     public static void checkPlaceholderAPI() {
         try {
-            Class.forName("me.clip.placeholderapi.PlaceholderAPI");
+            // Use reflection to avoid compile-time dependency
+            Class<?> placeholderAPI = Class.forName("me.clip.placeholderapi.PlaceholderAPI");
+            setPlaceholders = MethodHandles.publicLookup().findStatic(placeholderAPI, "setPlaceholders",
+                    MethodType.methodType(String.class, OfflinePlayer.class, String.class));
             placeholderApiEnabled = true;
-        } catch (ClassNotFoundException e) {
+        } catch (ReflectiveOperationException e) {
+            setPlaceholders = null;
             placeholderApiEnabled = false;
         }
     }
@@ -40,17 +61,50 @@ public class PlaceholderUtil {
             return text;
         }
         
+        EVALUATIONS.increment();
         try {
-            // Use reflection to avoid compile-time dependency
-            Class<?> placeholderAPI = Class.forName("me.clip.placeholderapi.PlaceholderAPI");
-            java.lang.reflect.Method setPlaceholders = placeholderAPI.getMethod("setPlaceholders", Player.class, String.class);
-            return (String) setPlaceholders.invoke(null, player, text);
-        } catch (Exception e) {
+            return (String) setPlaceholders.invokeExact((OfflinePlayer) player, text);
+        } catch (Throwable e) {
             // If PlaceholderAPI fails, return original text
             return text;
         }
     }
     
+    /**
+     * Resolve a single placeholder for a player, sharing the value between players if it is global
+     * 
+     * @param placeholder A single placeholder, %identifier_params%
+     * @param player The player to parse the placeholder for
+     * @return The resolved text
+     */
+    public static String resolvePlaceholder(String placeholder, Player player) {
+        GlobalPlaceholderCache cache = globalCache;
+        if (cache == null || !placeholderApiEnabled || player == null) {
+            return parsePlaceholders(placeholder, player);
+        }
+        return cache.resolve(placeholder, player);
+    }
+    
+    /**
+     * Set the cache for player-independent placeholders
+     * 
+     * @param cache The cache, or null to evaluate every placeholder per player
+     */
+    public static void setGlobalCache(GlobalPlaceholderCache cache) {
+        globalCache = cache;
+    }
+    
+    public static GlobalPlaceholderCache getGlobalCache() {
+        return globalCache;
+    }
+    
+    /**
+     * Get the number of texts passed to PlaceholderAPI since startup
+     */
+    public static long getEvaluationCount() {
+        return EVALUATIONS.sum();
+    }
+    
     /**
      * Check if a string contains placeholders
      * 
@@ -62,7 +116,7 @@ public class PlaceholderUtil {
             return false;
         }
         
-        return text.contains("%");
+        return PLACEHOLDER_PATTERN.matcher(text).find();
     }
 
 }
@@ -0,0 +1,107 @@
+package com.pandora.holograms.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded least-recently-used cache keyed by text.
+ * Used to share the rendered form of text that repeats across holograms and messages.
+ * 
+ * @author Blacnova Development
+ * @version 1.0.0
+ */
+public class TextCache<V> {
+    
+    private final Function<String, V> loader;
+    private final LinkedHashMap<String, V> entries;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    
+    public TextCache(int maxSize, Function<String, V> loader) {
+        this.loader = loader;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > TextCache.this.maxSize;
+            }
+        };
+    }
+    
+    /**
+     * Get the cached value for a text, computing it on a miss
+     * 
+     * @param text The text
+     * @return The cached or computed value
+     */
+    public synchronized V get(String text) {
+        V value = entries.get(text);
+        if (value != null) {
+            hits++;
+            return value;
+        }
+        misses++;
+        value = loader.apply(text);
+        if (maxSize > 0) {
+            entries.put(text, value);
+        }
+        return value;
+    }
+    
+    /**
+     * Change the maximum number of entries, evicting the least recently used ones if needed
+     * 
+     * @param maxSize The new maximum, 0 disables caching
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        while (entries.size() > this.maxSize) {
+            String eldest = entries.keySet().iterator().next();
+            entries.remove(eldest);
+        }
+    }
+    
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    public synchronized long getHits() {
+        return hits;
+    }
+    
+    public synchronized long getMisses() {
+        return misses;
+    }
+    
+    /**
+     * Get the share of lookups that were served from the cache
+     * 
+     * @return The hit rate between 0 and 1
+     */
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : hits / (double) total;
+    }
+    
+    /**
+     * Reset the hit and miss counters without evicting anything
+     */
+    public synchronized void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+    
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+}
+